@@ -15,6 +15,7 @@
  */
 package org.springframework.data.auditing;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.logging.Log;
@@ -88,6 +89,34 @@ public class AuditingHandler extends AuditingHandlerSupport implements Initializ
 		return markModified(getAuditor(), source);
 	}
 
+	/**
+	 * Marks the given objects as created. The current auditor and date are obtained once for all objects.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> List<T> markCreatedAll(Iterable<T> sources) {
+
+		Assert.notNull(sources, "Entities must not be null!");
+
+		return markCreatedAll(getAuditor(), sources);
+	}
+
+	/**
+	 * Marks the given objects as modified. The current auditor and date are obtained once for all objects.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> List<T> markModifiedAll(Iterable<T> sources) {
+
+		Assert.notNull(sources, "Entities must not be null!");
+
+		return markModifiedAll(getAuditor(), sources);
+	}
+
 	Auditor<?> getAuditor() {
 
 		return auditorAware.map(AuditorAware::getCurrentAuditor).map(Auditor::ofOptional) //
@@ -16,7 +16,12 @@
 package org.springframework.data.auditing;
 
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -24,6 +29,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.log.LogMessage;
 import org.springframework.data.domain.Auditable;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -127,26 +133,85 @@ public abstract class AuditingHandlerSupport {
 		return touch(auditor, source, false);
 	}
 
+	/**
+	 * Marks the given objects as created. The current date is obtained once for all objects.
+	 *
+	 * @param auditor must not be {@literal null}.
+	 * @param sources must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	<T> List<T> markCreatedAll(Auditor<?> auditor, Iterable<T> sources) {
+		return markAuditedAll(auditor, sources, it -> true);
+	}
+
+	/**
+	 * Marks the given objects as modified. The current date is obtained once for all objects.
+	 *
+	 * @param auditor must not be {@literal null}.
+	 * @param sources must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	<T> List<T> markModifiedAll(Auditor<?> auditor, Iterable<T> sources) {
+		return markAuditedAll(auditor, sources, it -> false);
+	}
+
+	/**
+	 * Marks the given objects as created or modified depending on the given {@link Predicate}. The current date is
+	 * obtained once for all objects, the {@link Predicate} is only consulted for auditable objects.
+	 *
+	 * @param auditor must not be {@literal null}.
+	 * @param sources must not be {@literal null}.
+	 * @param isNew must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	<T> List<T> markAuditedAll(Auditor<?> auditor, Iterable<T> sources, Predicate<? super T> isNew) {
+
+		Assert.notNull(sources, "Source entities must not be null!");
+		Assert.notNull(isNew, "IsNew predicate must not be null!");
+
+		Lazy<Optional<TemporalAccessor>> now = Lazy.of(this::getNow);
+		List<T> result = sources instanceof Collection<?> collection ? new ArrayList<>(collection.size())
+				: new ArrayList<>();
+
+		for (T source : sources) {
+
+			Assert.notNull(source, "Source entity must not be null!");
+
+			Optional<AuditableBeanWrapper<T>> wrapper = factory.getBeanWrapperFor(source);
+
+			result.add(wrapper.isPresent() ? touch(auditor, wrapper.get(), isNew.test(source), now) : source);
+		}
+
+		return result;
+	}
+
 	private <T> T touch(Auditor<?> auditor, T target, boolean isNew) {
 
 		Optional<AuditableBeanWrapper<T>> wrapper = factory.getBeanWrapperFor(target);
 
-		return wrapper.map(it -> {
+		return wrapper.map(it -> touch(auditor, it, isNew, this::getNow)).orElse(target);
+	}
+
+	private <T> T touch(Auditor<?> auditor, AuditableBeanWrapper<T> wrapper, boolean isNew,
+			Supplier<Optional<TemporalAccessor>> nowSupplier) {
 
-			touchAuditor(auditor, it, isNew);
-			Optional<TemporalAccessor> now = dateTimeForNow ? touchDate(it, isNew) : Optional.empty();
+		touchAuditor(auditor, wrapper, isNew);
+		Optional<TemporalAccessor> now = dateTimeForNow ? touchDate(wrapper, isNew, nowSupplier.get())
+				: Optional.empty();
 
-			if (logger.isDebugEnabled()) {
+		if (logger.isDebugEnabled()) {
 
-				Object defaultedNow = now.map(Object::toString).orElse("not set");
-				Object defaultedAuditor = auditor.isPresent() ? auditor.toString() : "unknown";
+			Object defaultedNow = now.map(Object::toString).orElse("not set");
+			Object defaultedAuditor = auditor.isPresent() ? auditor.toString() : "unknown";
 
-				logger.debug(
-						LogMessage.format("Touched %s - Last modification at %s by %s", target, defaultedNow, defaultedAuditor));
-			}
+			logger.debug(LogMessage.format("Touched %s - Last modification at %s by %s", wrapper.getBean(), defaultedNow,
+					defaultedAuditor));
+		}
 
-			return it.getBean();
-		}).orElse(target);
+		return wrapper.getBean();
 	}
 
 	/**
@@ -179,19 +244,26 @@ public abstract class AuditingHandlerSupport {
 	 *
 	 * @param wrapper
 	 * @param isNew
+	 * @param now
 	 * @return
 	 */
-	private Optional<TemporalAccessor> touchDate(AuditableBeanWrapper<?> wrapper, boolean isNew) {
+	private Optional<TemporalAccessor> touchDate(AuditableBeanWrapper<?> wrapper, boolean isNew,
+			Optional<TemporalAccessor> now) {
 
 		Assert.notNull(wrapper, "AuditableBeanWrapper must not be null!");
 
+		now.filter(__ -> isNew).ifPresent(wrapper::setCreatedDate);
+		now.filter(__ -> !isNew || modifyOnCreation).ifPresent(wrapper::setLastModifiedDate);
+
+		return now;
+	}
+
+	private Optional<TemporalAccessor> getNow() {
+
 		Optional<TemporalAccessor> now = dateTimeProvider.getNow();
 
 		Assert.notNull(now, () -> String.format("Now must not be null! Returned by: %s!", dateTimeProvider.getClass()));
 
-		now.filter(__ -> isNew).ifPresent(wrapper::setCreatedDate);
-		now.filter(__ -> !isNew || modifyOnCreation).ifPresent(wrapper::setLastModifiedDate);
-
 		return now;
 	}
 }
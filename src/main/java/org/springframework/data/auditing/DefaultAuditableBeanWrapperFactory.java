@@ -24,6 +24,8 @@ import java.util.stream.Stream;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.convert.Jsr310Converters;
 import org.springframework.data.domain.Auditable;
 import org.springframework.data.util.ReflectionUtils;
@@ -42,18 +44,18 @@ import org.springframework.util.Assert;
  */
 class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory {
 
-	private final ConversionService conversionService;
+	private final AuditingConversionService conversionService;
 
 	public DefaultAuditableBeanWrapperFactory() {
 
-		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+		AuditingConversionService conversionService = new AuditingConversionService();
 
 		Jsr310Converters.getConvertersToRegister().forEach(conversionService::addConverter);
 
 		this.conversionService = conversionService;
 	}
 
-	ConversionService getConversionService() {
+	AuditingConversionService getConversionService() {
 		return conversionService;
 	}
 
@@ -85,6 +87,21 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		});
 	}
 
+	/**
+	 * {@link DefaultFormattingConversionService} exposing the {@link GenericConverter} resolved for a source and target
+	 * type so that callers converting between the same types repeatedly can hold on to it.
+	 *
+	 * @since 3.0
+	 */
+	static class AuditingConversionService extends DefaultFormattingConversionService {
+
+		@Nullable
+		@Override
+		public GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+			return super.getConverter(sourceType, targetType);
+		}
+	}
+
 	/**
 	 * An {@link AuditableBeanWrapper} that works with objects implementing
 	 *
@@ -226,7 +243,7 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		}
 	}
 
-	private static IllegalArgumentException rejectUnsupportedType(Object source) {
+	static IllegalArgumentException rejectUnsupportedType(Object source) {
 		return new IllegalArgumentException(String.format("Invalid date type %s for member %s! Supported types are %s.",
 				source.getClass(), source, AnnotationAuditingMetadata.SUPPORTED_DATE_TYPES));
 	}
@@ -15,11 +15,15 @@
  */
 package org.springframework.data.auditing;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.support.IsNewStrategy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -67,4 +71,54 @@ public class IsNewAwareAuditingHandler extends AuditingHandler {
 
 		return entity.isNew(object) ? markCreated(object) : markModified(object);
 	}
+
+	/**
+	 * Marks the given objects created or modified based on {@link PersistentEntity#isNew(Object)}. The current auditor
+	 * and date are obtained once for all objects.
+	 *
+	 * @param objects must not be {@literal null}.
+	 * @return the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> List<T> markAuditedAll(Iterable<T> objects) {
+
+		Assert.notNull(objects, "Source objects must not be null!");
+
+		return markAuditedAll(getAuditor(), objects, new IsNewPredicate(entities));
+	}
+
+	/**
+	 * {@link Predicate} to determine whether an object is new through its {@link PersistentEntity}. Remembers the
+	 * {@link PersistentEntity} looked up last, so that batches of objects of the same type resolve it only once.
+	 *
+	 * @since 3.0
+	 */
+	static class IsNewPredicate implements Predicate<Object> {
+
+		private final PersistentEntities entities;
+
+		private @Nullable Class<?> type;
+		private @Nullable PersistentEntity<?, ? extends PersistentProperty<?>> entity;
+
+		IsNewPredicate(PersistentEntities entities) {
+			this.entities = entities;
+		}
+
+		@Override
+		public boolean test(Object object) {
+
+			Class<?> objectType = object.getClass();
+			PersistentEntity<?, ? extends PersistentProperty<?>> entity = this.entity;
+
+			if (entity == null || type != objectType) {
+
+				entity = entities.getRequiredPersistentEntity(objectType);
+
+				this.type = objectType;
+				this.entity = entity;
+			}
+
+			return entity.isNew(object);
+		}
+	}
 }
@@ -17,12 +17,18 @@ package org.springframework.data.auditing;
 
 import java.lang.annotation.Annotation;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -34,11 +40,13 @@ import org.springframework.data.mapping.AccessOptions.SetOptions.Propagation;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPathAccessor;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
@@ -79,20 +87,33 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 				return super.getBeanWrapperFor(source);
 			}
 
+			// Fast path for types we already captured metadata for
+			MappingAuditingMetadata cached = metadataCache.get(it.getClass());
+
+			if (cached != null) {
+				return Optional.ofNullable(createWrapper(cached, it));
+			}
+
 			return entities.mapOnContext(it.getClass(), (context, entity) -> {
 
 				MappingAuditingMetadata metadata = metadataCache.computeIfAbsent(it.getClass(),
-						key -> new MappingAuditingMetadata(context, it.getClass()));
+						key -> new MappingAuditingMetadata(context, entity, getConversionService()));
 
-				return Optional.<AuditableBeanWrapper<T>> ofNullable(metadata.isAuditable() //
-						? new MappingMetadataAuditableBeanWrapper<>(getConversionService(), entity.getPropertyPathAccessor(it),
-								metadata)
-						: null);
+				return Optional.ofNullable(createWrapper(metadata, it));
 
 			}).orElseGet(() -> super.getBeanWrapperFor(source));
 		});
 	}
 
+	@Nullable
+	private <T> AuditableBeanWrapper<T> createWrapper(MappingAuditingMetadata metadata, T source) {
+
+		return metadata.isAuditable() //
+				? new MappingMetadataAuditableBeanWrapper<>(getConversionService(),
+						metadata.entity.getPropertyPathAccessor(source), metadata)
+				: null;
+	}
+
 	/**
 	 * Captures {@link PersistentProperty} instances equipped with auditing annotations.
 	 *
@@ -104,26 +125,37 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 		private static final Predicate<? super PersistentProperty<?>> HAS_COLLECTION_PROPERTY = it -> it.isCollectionLike()
 				|| it.isMap();
 
+		private final PersistentEntity<?, ?> entity;
 		private final PersistentPropertyPaths<?, ? extends PersistentProperty<?>> createdByPaths;
 		private final PersistentPropertyPaths<?, ? extends PersistentProperty<?>> createdDatePaths;
 		private final PersistentPropertyPaths<?, ? extends PersistentProperty<?>> lastModifiedByPaths;
 		private final PersistentPropertyPaths<?, ? extends PersistentProperty<?>> lastModifiedDatePaths;
+		private final List<DatePropertySetter> createdDateSetters;
+		private final List<DatePropertySetter> lastModifiedDateSetters;
 
 		private final Lazy<Boolean> isAuditable;
 
 		/**
 		 * Creates a new {@link MappingAuditingMetadata} instance from the given {@link PersistentEntity}.
 		 *
+		 * @param context must not be {@literal null}.
 		 * @param entity must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
 		 */
-		public <P> MappingAuditingMetadata(MappingContext<?, ? extends PersistentProperty<?>> context, Class<?> type) {
+		MappingAuditingMetadata(MappingContext<?, ? extends PersistentProperty<?>> context, PersistentEntity<?, ?> entity,
+				AuditingConversionService conversionService) {
 
-			Assert.notNull(type, "Type must not be null!");
+			Assert.notNull(entity, "PersistentEntity must not be null!");
 
+			Class<?> type = entity.getType();
+
+			this.entity = entity;
 			this.createdByPaths = findPropertyPaths(type, CreatedBy.class, context);
 			this.createdDatePaths = findPropertyPaths(type, CreatedDate.class, context);
 			this.lastModifiedByPaths = findPropertyPaths(type, LastModifiedBy.class, context);
 			this.lastModifiedDatePaths = findPropertyPaths(type, LastModifiedDate.class, context);
+			this.createdDateSetters = DatePropertySetter.of(createdDatePaths, conversionService);
+			this.lastModifiedDateSetters = DatePropertySetter.of(lastModifiedDatePaths, conversionService);
 
 			this.isAuditable = Lazy.of( //
 					() -> //
@@ -198,7 +230,7 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 
 		@Override
 		public TemporalAccessor setCreatedDate(TemporalAccessor value) {
-			return setDateProperty(metadata.createdDatePaths, value);
+			return setDateProperty(metadata.createdDateSetters, value);
 		}
 
 		@Override
@@ -217,7 +249,7 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 
 		@Override
 		public TemporalAccessor setLastModifiedDate(TemporalAccessor value) {
-			return setDateProperty(metadata.lastModifiedDatePaths, value);
+			return setDateProperty(metadata.lastModifiedDateSetters, value);
 		}
 
 		@Override
@@ -233,17 +265,179 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 			return value;
 		}
 
-		private TemporalAccessor setDateProperty(
-				PersistentPropertyPaths<?, ? extends PersistentProperty<?>> property, TemporalAccessor value) {
+		private TemporalAccessor setDateProperty(List<DatePropertySetter> setters, TemporalAccessor value) {
+
+			for (DatePropertySetter setter : setters) {
+				setter.setDate(accessor, value, OPTIONS);
+			}
+
+			return value;
+		}
+	}
+
+	/**
+	 * Sets a date value on a particular {@link PersistentPropertyPath} converting it into the type of the leaf property
+	 * upfront.
+	 *
+	 * @since 3.0
+	 */
+	static final class DatePropertySetter {
 
-			property.forEach(it -> {
+		private final PersistentPropertyPath<? extends PersistentProperty<?>> path;
+		private final DateValueConverter converter;
 
-				Class<?> type = it.getRequiredLeafProperty().getType();
+		private DatePropertySetter(PersistentPropertyPath<? extends PersistentProperty<?>> path,
+				DateValueConverter converter) {
 
-				this.accessor.setProperty(it, getDateValueToSet(value, type, accessor.getBean()), OPTIONS);
-			});
+			this.path = path;
+			this.converter = converter;
+		}
 
-			return value;
+		/**
+		 * Creates {@link DatePropertySetter}s for all given {@link PersistentPropertyPaths}.
+		 *
+		 * @param paths must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
+		 * @return
+		 */
+		static List<DatePropertySetter> of(PersistentPropertyPaths<?, ? extends PersistentProperty<?>> paths,
+				AuditingConversionService conversionService) {
+
+			List<DatePropertySetter> setters = new ArrayList<>();
+
+			for (PersistentPropertyPath<? extends PersistentProperty<?>> path : paths) {
+
+				Class<?> type = path.getRequiredLeafProperty().getType();
+
+				setters.add(new DatePropertySetter(path, new DateValueConverter(type, conversionService)));
+			}
+
+			return setters.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(setters);
+		}
+
+		void setDate(PersistentPropertyPathAccessor<?> accessor, TemporalAccessor value, SetOptions options) {
+			accessor.setProperty(path, converter.convert(value, accessor.getBean()), options);
+		}
+	}
+
+	/**
+	 * Converts {@link TemporalAccessor} values into a fixed target type. Resolves the {@link GenericConverter} to use for
+	 * the type of the values handed in once and keeps it as long as values of the same type are handed in, so converting
+	 * does not require a {@link ConversionService} lookup per value. Date types that cannot be converted directly are
+	 * converted via {@link Date}.
+	 *
+	 * @since 3.0
+	 */
+	static final class DateValueConverter {
+
+		private static final TypeDescriptor DATE = TypeDescriptor.valueOf(Date.class);
+
+		private final Class<?> targetType;
+		private final AuditingConversionService conversionService;
+
+		private volatile @Nullable Conversion conversion;
+
+		DateValueConverter(Class<?> targetType, AuditingConversionService conversionService) {
+
+			this.targetType = targetType;
+			this.conversionService = conversionService;
+		}
+
+		/**
+		 * Converts the given {@link TemporalAccessor} into the target type.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @param source the object to set the value on, used for error messages.
+		 * @return
+		 */
+		@Nullable
+		Object convert(TemporalAccessor value, Object source) {
+
+			Conversion conversion = this.conversion;
+
+			if (conversion == null || conversion.sourceType != value.getClass()) {
+
+				conversion = resolve(value.getClass(), source);
+				this.conversion = conversion;
+			}
+
+			return conversion.apply(value);
+		}
+
+		private Conversion resolve(Class<?> sourceType, Object source) {
+
+			if (TemporalAccessor.class.equals(targetType) || targetType.isAssignableFrom(sourceType)) {
+				return new Conversion(sourceType, null, null);
+			}
+
+			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+			TypeDescriptor targetDescriptor = TypeDescriptor.valueOf(targetType);
+			GenericConverter converter = conversionService.getConverter(sourceDescriptor, targetDescriptor);
+
+			if (converter != null) {
+				return new Conversion(sourceType, new ConversionStep(converter, sourceDescriptor, targetDescriptor), null);
+			}
+
+			GenericConverter fromDate = conversionService.getConverter(DATE, targetDescriptor);
+
+			if (fromDate == null) {
+				throw DefaultAuditableBeanWrapperFactory.rejectUnsupportedType(source);
+			}
+
+			GenericConverter toDate = conversionService.getConverter(sourceDescriptor, DATE);
+
+			if (toDate == null) {
+				throw new IllegalArgumentException(
+						String.format("Cannot convert date type for member %s! From %s to java.util.Date to %s.", source,
+								sourceType, targetType));
+			}
+
+			return new Conversion(sourceType, new ConversionStep(toDate, sourceDescriptor, DATE),
+					new ConversionStep(fromDate, DATE, targetDescriptor));
+		}
+
+		/**
+		 * Up to two {@link ConversionStep}s resolved for a particular source type.
+		 */
+		private static final class Conversion {
+
+			private final Class<?> sourceType;
+			private final @Nullable ConversionStep first;
+			private final @Nullable ConversionStep second;
+
+			Conversion(Class<?> sourceType, @Nullable ConversionStep first, @Nullable ConversionStep second) {
+
+				this.sourceType = sourceType;
+				this.first = first;
+				this.second = second;
+			}
+
+			@Nullable
+			Object apply(Object value) {
+
+				Object result = first == null ? value : first.apply(value);
+
+				return second == null || result == null ? result : second.apply(result);
+			}
+		}
+
+		private static final class ConversionStep {
+
+			private final GenericConverter converter;
+			private final TypeDescriptor sourceType;
+			private final TypeDescriptor targetType;
+
+			ConversionStep(GenericConverter converter, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+				this.converter = converter;
+				this.sourceType = sourceType;
+				this.targetType = targetType;
+			}
+
+			@Nullable
+			Object apply(Object value) {
+				return converter.convert(value, sourceType, targetType);
+			}
 		}
 	}
 }
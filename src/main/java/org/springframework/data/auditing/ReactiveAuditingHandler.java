@@ -17,6 +17,8 @@ package org.springframework.data.auditing;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import org.springframework.data.domain.ReactiveAuditorAware;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.util.Assert;
@@ -79,7 +81,37 @@ public class ReactiveAuditingHandler extends AuditingHandlerSupport {
 				.map(auditor -> markModified(auditor, source));
 	}
 
-	private Mono<? extends Auditor<?>> getAuditor() {
+	/**
+	 * Marks the given objects as created. The current auditor and date are obtained once for all objects.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @return a {@link Mono} emitting the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> Mono<List<T>> markCreatedAll(Iterable<T> sources) {
+
+		Assert.notNull(sources, "Entities must not be null!");
+
+		return getAuditor() //
+				.map(auditor -> markCreatedAll(auditor, sources));
+	}
+
+	/**
+	 * Marks the given objects as modified. The current auditor and date are obtained once for all objects.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @return a {@link Mono} emitting the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> Mono<List<T>> markModifiedAll(Iterable<T> sources) {
+
+		Assert.notNull(sources, "Entities must not be null!");
+
+		return getAuditor() //
+				.map(auditor -> markModifiedAll(auditor, sources));
+	}
+
+	Mono<? extends Auditor<?>> getAuditor() {
 
 		return auditorAware.getCurrentAuditor() //
 				.map(Auditor::of) //
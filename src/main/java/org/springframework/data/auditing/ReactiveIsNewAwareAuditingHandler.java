@@ -17,6 +17,9 @@ package org.springframework.data.auditing;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
+import org.springframework.data.auditing.IsNewAwareAuditingHandler.IsNewPredicate;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -67,4 +70,20 @@ public class ReactiveIsNewAwareAuditingHandler extends ReactiveAuditingHandler {
 
 		return entity.isNew(object) ? markCreated(object) : markModified(object);
 	}
+
+	/**
+	 * Marks the given objects created or modified based on {@link PersistentEntity#isNew(Object)}. The current auditor
+	 * and date are obtained once for all objects.
+	 *
+	 * @param objects must not be {@literal null}.
+	 * @return a {@link Mono} emitting the audited objects in the order of the given ones.
+	 * @since 3.0
+	 */
+	public <T> Mono<List<T>> markAuditedAll(Iterable<T> objects) {
+
+		Assert.notNull(objects, "Source objects must not be null!");
+
+		return getAuditor() //
+				.map(auditor -> markAuditedAll(auditor, objects, new IsNewPredicate(entities)));
+	}
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Event carrying all domain events exposed via {@link DomainEvents} by the aggregates handed to a single repository
+ * method invocation, e.g. a call to {@code saveAll(…)}. Published instead of the individual events if the repository is
+ * configured to publish domain events in batches, so that listeners can process the events of a bulk operation at once.
+ *
+ * @since 3.0
+ * @see DomainEvents
+ */
+public final class DomainEventBatch implements Iterable<Object> {
+
+	private final List<Object> events;
+
+	/**
+	 * Creates a new {@link DomainEventBatch} for the given events.
+	 *
+	 * @param events must not be {@literal null}.
+	 */
+	public DomainEventBatch(List<?> events) {
+
+		Assert.notNull(events, "Events must not be null!");
+
+		this.events = Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Returns the events in the order they were exposed by the aggregates.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<Object> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Returns the number of events in this batch.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return events.size();
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		return events.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("DomainEventBatch %s", events);
+	}
+}
@@ -62,6 +62,18 @@ public interface Page<T> extends Slice<T> {
 	 */
 	long getTotalElements();
 
+	/**
+	 * Returns whether {@link #getTotalElements()} (and thus {@link #getTotalPages()}) is an estimate rather than the
+	 * exact number of elements, e.g. because it was obtained from table statistics instead of a {@code COUNT} query.
+	 * Not rendered when serializing pages with Jackson so that the JSON representation of pages remains unchanged.
+	 *
+	 * @return {@literal true} if the total is approximate. Defaults to {@literal false}.
+	 * @since 3.0
+	 */
+	default boolean hasApproximateTotal() {
+		return false;
+	}
+
 	/**
 	 * Returns a new {@link Page} with the content of the current one mapped by the given {@link Function}.
 	 *
@@ -32,6 +32,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 	private static final long serialVersionUID = 867755909294344406L;
 
 	private final long total;
+	private final boolean totalApproximate;
 
 	/**
 	 * Constructor of {@code PageImpl}.
@@ -42,9 +43,25 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 	 *          given, if it is going to be the content of the last page. This is in place to mitigate inconsistencies.
 	 */
 	public PageImpl(List<T> content, Pageable pageable, long total) {
+		this(content, pageable, total, false);
+	}
+
+	/**
+	 * Constructor of {@code PageImpl} for an exact or approximate total.
+	 *
+	 * @param content the content of this page, must not be {@literal null}.
+	 * @param pageable the paging information, must not be {@literal null}.
+	 * @param total the total amount of items available. The total might be adapted considering the length of the content
+	 *          given, if it is going to be the content of the last page. This is in place to mitigate inconsistencies.
+	 * @param totalApproximate whether the given total is an estimate.
+	 * @since 3.0
+	 */
+	public PageImpl(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
 
 		super(content, pageable);
 
+		this.totalApproximate = totalApproximate;
+
 		this.total = pageable.toOptional().filter(it -> !content.isEmpty())//
 				.filter(it -> it.getOffset() + it.getPageSize() > total)//
 				.map(it -> it.getOffset() + content.size())//
@@ -71,6 +88,11 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 		return total;
 	}
 
+	@Override
+	public boolean hasApproximateTotal() {
+		return totalApproximate;
+	}
+
 	@Override
 	public boolean hasNext() {
 		return getNumber() + 1 < getTotalPages();
@@ -83,7 +105,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 
 	@Override
 	public <U> Page<U> map(Function<? super T, ? extends U> converter) {
-		return new PageImpl<>(getConvertedContent(converter), getPageable(), total);
+		return new PageImpl<>(getConvertedContent(converter), getPageable(), total, totalApproximate);
 	}
 
 	@Override
@@ -110,7 +132,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 			return false;
 		}
 
-		return this.total == that.total && super.equals(obj);
+		return this.total == that.total && this.totalApproximate == that.totalApproximate && super.equals(obj);
 	}
 
 	@Override
@@ -119,6 +141,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 		int result = 17;
 
 		result += 31 * (int) (total ^ total >>> 32);
+		result += 31 * (totalApproximate ? 1 : 0);
 		result += 31 * super.hashCode();
 
 		return result;
@@ -16,7 +16,6 @@
 package org.springframework.data.domain;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -24,13 +23,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.data.util.MethodInvocationRecorder;
 import org.springframework.data.util.MethodInvocationRecorder.Recorded;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -45,11 +44,13 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 	private static final long serialVersionUID = 5737186511678863905L;
 
-	private static final Sort UNSORTED = Sort.by(new Order[0]);
+	private static final Sort UNSORTED = new Sort(Collections.emptyList());
+	private static final ConcurrentLruCache<Sort, Sort> CANONICAL = new ConcurrentLruCache<>(256, Function.identity());
 
 	public static final Direction DEFAULT_DIRECTION = Direction.ASC;
 
 	private final List<Order> orders;
+	private transient int hashCode;
 
 	protected Sort(List<Order> orders) {
 		this.orders = orders;
@@ -67,9 +68,13 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 			throw new IllegalArgumentException("You have to provide at least one property to sort by!");
 		}
 
-		this.orders = properties.stream() //
-				.map(it -> new Order(direction, it)) //
-				.collect(Collectors.toList());
+		Order[] orders = new Order[properties.size()];
+
+		for (int i = 0; i < orders.length; i++) {
+			orders[i] = new Order(direction, properties.get(i));
+		}
+
+		this.orders = Collections.unmodifiableList(Arrays.asList(orders));
 	}
 
 	/**
@@ -97,7 +102,7 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 		Assert.notNull(orders, "Orders must not be null!");
 
-		return orders.isEmpty() ? Sort.unsorted() : new Sort(orders);
+		return orders.isEmpty() ? Sort.unsorted() : new Sort(toImmutableList(orders.toArray(new Order[0])));
 	}
 
 	/**
@@ -110,7 +115,7 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 		Assert.notNull(orders, "Orders must not be null!");
 
-		return new Sort(Arrays.asList(orders));
+		return orders.length == 0 ? Sort.unsorted() : new Sort(toImmutableList(orders.clone()));
 	}
 
 	/**
@@ -126,9 +131,13 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		Assert.notNull(properties, "Properties must not be null!");
 		Assert.isTrue(properties.length > 0, "At least one property must be given!");
 
-		return Sort.by(Arrays.stream(properties)//
-				.map(it -> new Order(direction, it))//
-				.collect(Collectors.toList()));
+		Order[] orders = new Order[properties.length];
+
+		for (int i = 0; i < properties.length; i++) {
+			orders[i] = new Order(direction, properties[i]);
+		}
+
+		return new Sort(toImmutableList(orders));
 	}
 
 	/**
@@ -151,6 +160,30 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		return UNSORTED;
 	}
 
+	/**
+	 * Returns a canonical {@link Sort} instance equal to the given one. Canonical instances are kept in a bounded table of
+	 * recently used {@link Sort}s, i.e. equal {@link Sort}s are shared and can be compared by identity only as long as
+	 * their entry stays in that table. Subclasses of {@link Sort} are returned as-is.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @return
+	 * @since 3.0
+	 */
+	public static Sort canonical(Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null!");
+
+		if (sort.getClass() != Sort.class) {
+			return sort;
+		}
+
+		if (sort.isEmpty()) {
+			return UNSORTED;
+		}
+
+		return CANONICAL.get(sort);
+	}
+
 	/**
 	 * Returns a new {@link Sort} with the current setup but descending order direction.
 	 *
@@ -193,13 +226,30 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 		Assert.notNull(sort, "Sort must not be null!");
 
-		ArrayList<Order> these = new ArrayList<Order>(this.toList());
+		// Sort instances are immutable so we can share them if there is nothing to combine
+		if (sort.isEmpty() && getClass() == Sort.class) {
+			return this;
+		}
 
-		for (Order order : sort) {
-			these.add(order);
+		if (isEmpty() && sort.getClass() == Sort.class) {
+			return sort;
 		}
 
-		return Sort.by(these);
+		List<Order> these = this.toList();
+		List<Order> those = sort.toList();
+		Order[] orders = new Order[these.size() + those.size()];
+
+		int index = 0;
+
+		for (Order order : these) {
+			orders[index++] = order;
+		}
+
+		for (Order order : those) {
+			orders[index++] = order;
+		}
+
+		return Sort.by(toImmutableList(orders));
 	}
 
 	/**
@@ -224,6 +274,13 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		return this.orders.iterator();
 	}
 
+	@Override
+	public List<Order> toList() {
+
+		// plain Sort instances hold an unmodifiable list already
+		return getClass() == Sort.class ? orders : Streamable.super.toList();
+	}
+
 	@Override
 	public boolean equals(@Nullable Object obj) {
 
@@ -235,14 +292,24 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 			return false;
 		}
 
+		if (getClass() == Sort.class && that.getClass() == Sort.class && hashCode() != that.hashCode()) {
+			return false;
+		}
+
 		return toList().equals(that.toList());
 	}
 
 	@Override
 	public int hashCode() {
 
-		int result = 17;
-		result = 31 * result + orders.hashCode();
+		int result = hashCode;
+
+		if (result == 0) {
+			result = 17;
+			result = 31 * result + orders.hashCode();
+			hashCode = result;
+		}
+
 		return result;
 	}
 
@@ -259,7 +326,25 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 	 */
 	private Sort withDirection(Direction direction) {
 
-		return Sort.by(stream().map(it -> it.with(direction)).collect(Collectors.toList()));
+		List<Order> these = toList();
+		Order[] orders = new Order[these.size()];
+
+		for (int i = 0; i < orders.length; i++) {
+			orders[i] = these.get(i).with(direction);
+		}
+
+		return Sort.by(toImmutableList(orders));
+	}
+
+	/**
+	 * Wraps the given array into an unmodifiable {@link List} without copying it. The array must not be modified
+	 * afterwards.
+	 *
+	 * @param orders must not be {@literal null}.
+	 * @return
+	 */
+	private static List<Order> toImmutableList(Order[] orders) {
+		return Collections.unmodifiableList(Arrays.asList(orders));
 	}
 
 	/**
@@ -366,6 +451,7 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		private final String property;
 		private final boolean ignoreCase;
 		private final NullHandling nullHandling;
+		private transient int hashCode;
 
 		/**
 		 * Creates a new {@link Order} instance. if order is {@literal null} then order defaults to
@@ -585,12 +671,19 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		@Override
 		public int hashCode() {
 
-			int result = 17;
+			int result = hashCode;
+
+			if (result == 0) {
+
+				result = 17;
 
-			result = 31 * result + direction.hashCode();
-			result = 31 * result + property.hashCode();
-			result = 31 * result + (ignoreCase ? 1 : 0);
-			result = 31 * result + nullHandling.hashCode();
+				result = 31 * result + direction.hashCode();
+				result = 31 * result + property.hashCode();
+				result = 31 * result + (ignoreCase ? 1 : 0);
+				result = 31 * result + nullHandling.hashCode();
+
+				hashCode = result;
+			}
 
 			return result;
 		}
@@ -606,8 +699,8 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 				return false;
 			}
 
-			return this.direction.equals(that.direction) && this.property.equals(that.property)
-					&& this.ignoreCase == that.ignoreCase && this.nullHandling.equals(that.nullHandling);
+			return this.direction == that.direction && this.ignoreCase == that.ignoreCase
+					&& this.nullHandling == that.nullHandling && this.property.equals(that.property);
 		}
 
 		@Override
@@ -638,7 +731,8 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 		private static final long serialVersionUID = -3550403511206745880L;
 
-		private final Recorded<T> recorded;
+		private final transient Recorded<T> recorded;
+		private final @Nullable String propertyPath;
 
 		private TypedSort(Class<T> type) {
 			this(MethodInvocationRecorder.forProxyOf(type));
@@ -647,7 +741,9 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 		private TypedSort(Recorded<T> recorded) {
 
 			super(Collections.emptyList());
+
 			this.recorded = recorded;
+			this.propertyPath = recorded.getPropertyPath().orElse(null);
 		}
 
 		public <S> TypedSort<S> by(Function<T, S> property) {
@@ -664,43 +760,35 @@ public class Sort implements Streamable<org.springframework.data.domain.Sort.Ord
 
 		@Override
 		public Sort ascending() {
-			return withDirection(Sort::ascending);
+			return propertyPath == null ? Sort.unsorted() : Sort.by(propertyPath).ascending();
 		}
 
 		@Override
 		public Sort descending() {
-			return withDirection(Sort::descending);
-		}
-
-		private Sort withDirection(Function<Sort, Sort> direction) {
-
-			return recorded.getPropertyPath() //
-					.map(Sort::by) //
-					.map(direction) //
-					.orElseGet(Sort::unsorted);
+			return propertyPath == null ? Sort.unsorted() : Sort.by(propertyPath).descending();
 		}
 
 		@Override
 		public Iterator<Order> iterator() {
 
-			return recorded.getPropertyPath() //
-					.map(Order::by) //
-					.map(Collections::singleton) //
-					.orElseGet(Collections::emptySet).iterator();
+			return propertyPath == null //
+					? Collections.emptyIterator() //
+					: Collections.singleton(Order.by(propertyPath)).iterator();
 		}
 
 		@Override
 		public boolean isEmpty() {
-			return !recorded.getPropertyPath().isPresent();
+			return propertyPath == null;
 		}
 
 		@Override
-		public String toString() {
+		public int hashCode() {
+			return 31 * 17 + toList().hashCode();
+		}
 
-			return recorded.getPropertyPath() //
-					.map(Sort::by) //
-					.orElseGet(Sort::unsorted) //
-					.toString();
+		@Override
+		public String toString() {
+			return propertyPath == null ? Sort.unsorted().toString() : Sort.by(propertyPath).toString();
 		}
 	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.callback;
+
+import java.util.List;
+
+/**
+ * {@link EntityCallback} that is able to process a batch of entities at once, e.g. to look up the current auditor or to
+ * fetch an encryption key once per batch instead of once per entity. A batch callback implements the callback
+ * interfaces it is registered for along with this interface.
+ * {@link EntityCallbacks#callbackAll(Class, List, Object...)} invokes {@link #onBatch(Class, List, Object...)} instead of
+ * the callback method, single-entity invocations keep using the callback method. Batches contain the entities of a
+ * single entity class, so entities of different subclasses of the callback's entity type are passed in separate batches.
+ *
+ * <pre class="code">
+ * class AuditingCallback implements BeforeSaveCallback&lt;Person&gt;, BatchEntityCallback&lt;Person&gt; {
+ *
+ * 	public Person onBeforeSave(Person entity, String collection) {
+ * 		return entity.withModifiedBy(auditorAware.getCurrentAuditor());
+ * 	}
+ *
+ * 	public List&lt;Person&gt; onBatch(Class&lt;? extends EntityCallback&gt; callbackType, List&lt;Person&gt; entities,
+ * 			Object... args) {
+ *
+ * 		String auditor = auditorAware.getCurrentAuditor();
+ * 		return entities.stream().map(it -&gt; it.withModifiedBy(auditor)).toList();
+ * 	}
+ * }
+ * </pre>
+ *
+ * @param <T> Entity type used to detect {@link EntityCallback callbacks} to invoke via their generic type signature.
+ * @since 3.0
+ * @see ReactiveBatchEntityCallback
+ */
+public interface BatchEntityCallback<T> extends EntityCallback<T> {
+
+	/**
+	 * Process the given batch of entities.
+	 *
+	 * @param callbackType the callback type the batch is processed for, allows callbacks implementing multiple callback
+	 *          interfaces to tell invocations apart.
+	 * @param entities the entities to process, never {@literal null} or empty. The {@link List} must not be modified.
+	 * @param args the additional callback arguments.
+	 * @return the entities to pass on to subsequent callbacks in the same order as the given ones. Must not be
+	 *         {@literal null} and must contain the same number of entities.
+	 */
+	List<T> onBatch(Class<? extends EntityCallback> callbackType, List<T> entities, Object... args);
+}
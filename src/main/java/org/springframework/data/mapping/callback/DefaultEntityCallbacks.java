@@ -15,7 +15,10 @@
  */
 package org.springframework.data.mapping.callback;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -23,11 +26,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanFactory;
-import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * {@link EntityCallbacks} implementation using an {@link EntityCallbackDiscoverer} to retrieve {@link EntityCallback
@@ -39,7 +40,6 @@ import org.springframework.util.ReflectionUtils;
  */
 class DefaultEntityCallbacks implements EntityCallbacks {
 
-	private final Map<Class<?>, Method> callbackMethodCache = new ConcurrentReferenceHashMap<>(64);
 	private final SimpleEntityCallbackInvoker callbackInvoker = new SimpleEntityCallbackInvoker();
 	private final EntityCallbackDiscoverer callbackDiscoverer;
 
@@ -65,27 +65,50 @@ class DefaultEntityCallbacks implements EntityCallbacks {
 
 		Assert.notNull(entity, "Entity must not be null!");
 
-		Class<T> entityType = (Class<T>) (entity != null ? ClassUtils.getUserClass(entity.getClass())
-				: callbackDiscoverer.resolveDeclaredEntityType(callbackType).getRawClass());
+		EntityCallbackChain chain = callbackDiscoverer.getEntityCallbackChain(ClassUtils.getUserClass(entity.getClass()),
+				callbackType, args);
 
-		Method callbackMethod = callbackMethodCache.computeIfAbsent(callbackType, it -> {
+		T value = entity;
 
-			Method method = EntityCallbackDiscoverer.lookupCallbackMethod(it, entityType, args);
-			ReflectionUtils.makeAccessible(method);
-			return method;
-		});
+		for (int i = 0; i < chain.size(); i++) {
+			value = callbackInvoker.invokeCallback(chain, i, value, args);
+		}
 
-		T value = entity;
+		return value;
+	}
+
+	@Override
+	public <T> List<T> callbackAll(Class<? extends EntityCallback> callbackType, List<T> entities, Object... args) {
+
+		Assert.notNull(entities, "Entities must not be null!");
 
-		for (EntityCallback<T> callback : callbackDiscoverer.getEntityCallbacks(entityType,
-				ResolvableType.forClass(callbackType))) {
+		Map<Class<?>, List<Integer>> positions = groupByEntityType(entities);
+		List<T> result = new ArrayList<>(entities);
 
-			BiFunction<EntityCallback<T>, T, Object> callbackFunction = EntityCallbackDiscoverer
-					.computeCallbackInvokerFunction(callback, callbackMethod, args);
-			value = callbackInvoker.invokeCallback(callback, value, callbackFunction);
+		if (positions.size() == 1) {
+
+			Class<?> entityType = positions.keySet().iterator().next();
+
+			return invokeChain(callbackType, entityType, result, args);
 		}
 
-		return value;
+		for (Map.Entry<Class<?>, List<Integer>> group : positions.entrySet()) {
+
+			List<Integer> indexes = group.getValue();
+			List<T> members = new ArrayList<>(indexes.size());
+
+			for (Integer index : indexes) {
+				members.add(entities.get(index));
+			}
+
+			List<T> processed = invokeChain(callbackType, group.getKey(), members, args);
+
+			for (int i = 0; i < indexes.size(); i++) {
+				result.set(indexes.get(i), processed.get(i));
+			}
+		}
+
+		return result;
 	}
 
 	@Override
@@ -93,6 +116,56 @@ class DefaultEntityCallbacks implements EntityCallbacks {
 		this.callbackDiscoverer.addEntityCallback(callback);
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> List<T> invokeChain(Class<? extends EntityCallback> callbackType, Class<?> entityType, List<T> entities,
+			Object[] args) {
+
+		EntityCallbackChain chain = callbackDiscoverer.getEntityCallbackChain(entityType, callbackType, args);
+		List<T> values = entities;
+
+		for (int i = 0; i < chain.size(); i++) {
+
+			EntityCallback<T> callback = chain.getCallback(i);
+
+			if (callback instanceof BatchEntityCallback) {
+
+				List<T> result = ((BatchEntityCallback<T>) callback).onBatch(callbackType,
+						Collections.unmodifiableList(values), args);
+				values = new ArrayList<>(EntityCallbackInvoker.checkBatchResult(callback, values, result));
+
+				continue;
+			}
+
+			for (int j = 0; j < values.size(); j++) {
+				values.set(j, callbackInvoker.invokeCallback(chain, i, values.get(j), args));
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Group the positions of the given entities by their user class, retaining the encounter order of the types.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 */
+	static Map<Class<?>, List<Integer>> groupByEntityType(List<?> entities) {
+
+		Map<Class<?>, List<Integer>> positions = new LinkedHashMap<>(4);
+
+		for (int i = 0; i < entities.size(); i++) {
+
+			Object entity = entities.get(i);
+
+			Assert.notNull(entity, "Entities must not contain null values!");
+
+			positions.computeIfAbsent(ClassUtils.getUserClass(entity.getClass()), it -> new ArrayList<>()).add(i);
+		}
+
+		return positions;
+	}
+
 	static class SimpleEntityCallbackInvoker implements org.springframework.data.mapping.callback.EntityCallbackInvoker {
 
 		@Override
@@ -100,31 +173,57 @@ class DefaultEntityCallbacks implements EntityCallbacks {
 				BiFunction<EntityCallback<T>, T, Object> callbackInvokerFunction) {
 
 			try {
+				return nonNullResult(callback, entity, callbackInvokerFunction.apply(callback, entity));
+			} catch (IllegalArgumentException | ClassCastException ex) {
+				return handleFailure(callback, entity, ex);
+			}
+		}
 
-				Object value = callbackInvokerFunction.apply(callback, entity);
-
-				if (value != null) {
-					return (T) value;
-				}
+		/**
+		 * Invoke the callback at the given position of the {@link EntityCallbackChain} for the given entity.
+		 *
+		 * @param chain must not be {@literal null}.
+		 * @param index the position of the callback within the chain.
+		 * @param entity must not be {@literal null}.
+		 * @param args the additional callback arguments.
+		 * @return never {@literal null}.
+		 */
+		<T> T invokeCallback(EntityCallbackChain chain, int index, T entity, Object[] args) {
 
-				throw new IllegalArgumentException(
-						String.format("Callback invocation on %s returned null value for %s", callback.getClass(), entity));
+			EntityCallback<T> callback = chain.getCallback(index);
 
+			try {
+				return nonNullResult(callback, entity, chain.invoke(callback, entity, args));
 			} catch (IllegalArgumentException | ClassCastException ex) {
+				return handleFailure(callback, entity, ex);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T nonNullResult(EntityCallback<T> callback, T entity, @Nullable Object value) {
+
+			if (value != null) {
+				return (T) value;
+			}
+
+			throw new IllegalArgumentException(
+					String.format("Callback invocation on %s returned null value for %s", callback.getClass(), entity));
+		}
+
+		private <T> T handleFailure(EntityCallback<T> callback, T entity, RuntimeException ex) {
+
+			String msg = ex.getMessage();
+			if (msg == null || EntityCallbackInvoker.matchesClassCastMessage(msg, entity.getClass())) {
 
-				String msg = ex.getMessage();
-				if (msg == null || EntityCallbackInvoker.matchesClassCastMessage(msg, entity.getClass())) {
-
-					// Possibly a lambda-defined listener which we could not resolve the generic event type for
-					// -> let's suppress the exception and just log a debug message.
-					Log logger = LogFactory.getLog(getClass());
-					if (logger.isDebugEnabled()) {
-						logger.debug("Non-matching callback type for entity callback: " + callback, ex);
-					}
-					return entity;
-				} else {
-					throw ex;
+				// Possibly a lambda-defined listener which we could not resolve the generic event type for
+				// -> let's suppress the exception and just log a debug message.
+				Log logger = LogFactory.getLog(getClass());
+				if (logger.isDebugEnabled()) {
+					logger.debug("Non-matching callback type for entity callback: " + callback, ex);
 				}
+				return entity;
+			} else {
+				throw ex;
 			}
 		}
 	}
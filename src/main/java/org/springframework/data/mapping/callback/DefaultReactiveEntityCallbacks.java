@@ -15,9 +15,12 @@
  */
 package org.springframework.data.mapping.callback;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -26,11 +29,8 @@ import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 
 import org.springframework.beans.factory.BeanFactory;
-import org.springframework.core.ResolvableType;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * {@link ReactiveEntityCallbacks} implementation.
@@ -40,7 +40,6 @@ import org.springframework.util.ReflectionUtils;
  */
 class DefaultReactiveEntityCallbacks implements ReactiveEntityCallbacks {
 
-	private final Map<Class<?>, Method> callbackMethodCache = new ConcurrentReferenceHashMap<>(64);
 	private final ReactiveEntityCallbackInvoker callbackInvoker = new DefaultReactiveEntityCallbackInvoker();
 	private final EntityCallbackDiscoverer callbackDiscoverer;
 
@@ -66,23 +65,19 @@ class DefaultReactiveEntityCallbacks implements ReactiveEntityCallbacks {
 
 		Assert.notNull(entity, "Entity must not be null!");
 
-		Class<T> entityType = (Class<T>) (entity != null ? ClassUtils.getUserClass(entity.getClass())
-				: callbackDiscoverer.resolveDeclaredEntityType(callbackType).getRawClass());
+		EntityCallbackChain chain = callbackDiscoverer.getEntityCallbackChain(ClassUtils.getUserClass(entity.getClass()),
+				callbackType, args);
 
-		Method callbackMethod = callbackMethodCache.computeIfAbsent(callbackType, it -> {
-
-			Method method = EntityCallbackDiscoverer.lookupCallbackMethod(it, entityType, args);
-			ReflectionUtils.makeAccessible(method);
-			return method;
-		});
+		if (chain.size() == 0) {
+			return Mono.just(entity);
+		}
 
+		BiFunction<EntityCallback<T>, T, Object> callbackFunction = (callback, it) -> chain.invoke(callback, it, args);
 		Mono<T> deferredCallbackChain = Mono.just(entity);
 
-		for (EntityCallback<T> callback : callbackDiscoverer.getEntityCallbacks(entityType,
-				ResolvableType.forClass(callbackType))) {
+		for (int i = 0; i < chain.size(); i++) {
 
-			BiFunction<EntityCallback<T>, T, Object> callbackFunction = EntityCallbackDiscoverer
-					.computeCallbackInvokerFunction(callback, callbackMethod, args);
+			EntityCallback<T> callback = chain.getCallback(i);
 
 			deferredCallbackChain = deferredCallbackChain
 					.flatMap(it -> callbackInvoker.invokeCallback(callback, it, callbackFunction));
@@ -91,11 +86,91 @@ class DefaultReactiveEntityCallbacks implements ReactiveEntityCallbacks {
 		return deferredCallbackChain;
 	}
 
+	@Override
+	public <T> Mono<List<T>> callbackAll(Class<? extends EntityCallback> callbackType, List<T> entities,
+			Object... args) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		Map<Class<?>, List<Integer>> positions = DefaultEntityCallbacks.groupByEntityType(entities);
+
+		if (positions.size() == 1) {
+
+			Class<?> entityType = positions.keySet().iterator().next();
+
+			return invokeChain(callbackType, entityType, entities, args);
+		}
+
+		return Mono.defer(() -> {
+
+			List<T> result = new ArrayList<>(entities);
+
+			return Flux.fromIterable(positions.entrySet()) //
+					.concatMap(group -> {
+
+						List<Integer> indexes = group.getValue();
+						List<T> members = new ArrayList<>(indexes.size());
+
+						for (Integer index : indexes) {
+							members.add(entities.get(index));
+						}
+
+						return invokeChain(callbackType, group.getKey(), members, args).doOnNext(processed -> {
+
+							for (int i = 0; i < indexes.size(); i++) {
+								result.set(indexes.get(i), processed.get(i));
+							}
+						});
+					}) //
+					.then(Mono.fromSupplier(() -> result));
+		});
+	}
+
 	@Override
 	public void addEntityCallback(EntityCallback<?> callback) {
 		this.callbackDiscoverer.addEntityCallback(callback);
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> Mono<List<T>> invokeChain(Class<? extends EntityCallback> callbackType, Class<?> entityType,
+			List<T> entities, Object[] args) {
+
+		EntityCallbackChain chain = callbackDiscoverer.getEntityCallbackChain(entityType, callbackType, args);
+		BiFunction<EntityCallback<T>, T, Object> callbackFunction = (callback, it) -> chain.invoke(callback, it, args);
+		Mono<List<T>> deferredCallbackChain = Mono.fromSupplier(() -> new ArrayList<>(entities));
+
+		for (int i = 0; i < chain.size(); i++) {
+
+			EntityCallback<T> callback = chain.getCallback(i);
+
+			if (callback instanceof ReactiveBatchEntityCallback) {
+
+				ReactiveBatchEntityCallback<T> batchCallback = (ReactiveBatchEntityCallback<T>) callback;
+
+				deferredCallbackChain = deferredCallbackChain.flatMap(values -> Mono
+						.from(batchCallback.onBatch(callbackType, Collections.unmodifiableList(values), args))
+						.switchIfEmpty(Mono.error(() -> new IllegalArgumentException(
+								String.format("Batch callback invocation on %s completed without result", callback.getClass())))) //
+						.map(result -> EntityCallbackInvoker.checkBatchResult(callback, values, result)));
+
+			} else if (callback instanceof BatchEntityCallback) {
+
+				BatchEntityCallback<T> batchCallback = (BatchEntityCallback<T>) callback;
+
+				deferredCallbackChain = deferredCallbackChain.map(values -> EntityCallbackInvoker.checkBatchResult(callback,
+						values, batchCallback.onBatch(callbackType, Collections.unmodifiableList(values), args)));
+
+			} else {
+
+				deferredCallbackChain = deferredCallbackChain.flatMap(values -> Flux.fromIterable(values) //
+						.concatMap(it -> callbackInvoker.invokeCallback(callback, it, callbackFunction)) //
+						.collectList());
+			}
+		}
+
+		return deferredCallbackChain;
+	}
+
 	static class DefaultReactiveEntityCallbackInvoker implements ReactiveEntityCallbackInvoker {
 
 		@Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.callback;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Immutable, ordered chain of the {@link EntityCallback}s to invoke for a particular entity and callback type along with
+ * the {@link CallbackMethod} to invoke on them. Chains are created by {@link EntityCallbackDiscoverer} and cached as
+ * long as the set of registered callbacks does not change, so that invoking callbacks does not require callback
+ * lookup or reflection.
+ *
+ * @since 3.0
+ */
+final class EntityCallbackChain {
+
+	private final EntityCallback<?>[] callbacks;
+	private final CallbackMethod method;
+
+	EntityCallbackChain(Collection<? extends EntityCallback<?>> callbacks, CallbackMethod method) {
+
+		this.callbacks = callbacks.toArray(new EntityCallback<?>[0]);
+		this.method = method;
+	}
+
+	/**
+	 * Returns the number of callbacks in this chain.
+	 *
+	 * @return
+	 */
+	int size() {
+		return callbacks.length;
+	}
+
+	/**
+	 * Returns the callback at the given position.
+	 *
+	 * @param index
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	<T> EntityCallback<T> getCallback(int index) {
+		return (EntityCallback<T>) callbacks[index];
+	}
+
+	/**
+	 * Returns the number of additional callback arguments the chain was created for.
+	 *
+	 * @return
+	 */
+	int getArity() {
+		return method.arity;
+	}
+
+	/**
+	 * Invokes the callback method on the given callback.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param args additional callback arguments, must match {@link #getArity()}.
+	 * @return the callback result.
+	 */
+	Object invoke(EntityCallback<?> callback, Object entity, Object[] args) {
+		return method.invoke(callback, entity, args);
+	}
+
+	/**
+	 * A callback {@link Method} bound to a {@link MethodHandle} accepting the callback, the entity and the additional
+	 * callback arguments.
+	 */
+	static final class CallbackMethod {
+
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class,
+				Object[].class);
+
+		private final Method method;
+		private final MethodHandle invoker;
+		private final int arity;
+
+		/**
+		 * Creates a new {@link CallbackMethod} for the given {@link Method}.
+		 *
+		 * @param method must not be {@literal null}.
+		 */
+		CallbackMethod(Method method) {
+
+			ReflectionUtils.makeAccessible(method);
+
+			this.method = method;
+			this.arity = method.getParameterCount() - 1;
+
+			try {
+				this.invoker = MethodHandles.lookup().unreflect(method) //
+						.asSpreader(Object[].class, arity) //
+						.asType(INVOKER_TYPE);
+			} catch (IllegalAccessException o_O) {
+				throw new IllegalStateException(String.format("Cannot access callback method %s!", method), o_O);
+			}
+		}
+
+		Method getMethod() {
+			return method;
+		}
+
+		Object invoke(Object callback, Object entity, Object[] args) {
+
+			try {
+				return (Object) invoker.invokeExact(callback, entity, args);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+				return null;
+			}
+		}
+	}
+}
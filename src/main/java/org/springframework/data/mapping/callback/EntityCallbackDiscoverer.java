@@ -19,12 +19,13 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.beans.factory.BeanFactory;
@@ -32,13 +33,12 @@ import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.mapping.callback.EntityCallbackChain.CallbackMethod;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.util.comparator.Comparators;
 
 /**
  * @author Mark Paluch
@@ -48,15 +48,16 @@ import org.springframework.util.comparator.Comparators;
  */
 class EntityCallbackDiscoverer {
 
-	private final CallbackRetriever defaultRetriever = new CallbackRetriever(false);
-	private final Map<CallbackCacheKey, CallbackRetriever> retrieverCache = new ConcurrentHashMap<>(64);
+	private final Object registrationMonitor = new Object();
 	private final Map<Class<?>, ResolvableType> entityTypeCache = new ConcurrentReferenceHashMap<>(64);
+	private final Map<Class<?>, ResolvableType> callbackTypeCache = new ConcurrentReferenceHashMap<>(64);
+	private final Map<CallbackMethodCacheKey, CallbackMethod> callbackMethodCache = new ConcurrentReferenceHashMap<>(64);
+
+	private volatile RetrieverCache retrieverCache = new RetrieverCache(Registrations.NONE);
 
 	@Nullable private ClassLoader beanClassLoader;
 	@Nullable private BeanFactory beanFactory;
 
-	private Object retrievalMutex = this.defaultRetriever;
-
 	/**
 	 * Create a new {@link EntityCallback} instance.
 	 */
@@ -75,49 +76,56 @@ class EntityCallbackDiscoverer {
 
 		Assert.notNull(callback, "Callback must not be null!");
 
-		synchronized (this.retrievalMutex) {
+		updateRegistrations((callbacks, callbackBeans) -> {
 
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same callback.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(callback);
 			if (singletonTarget instanceof EntityCallback) {
-				this.defaultRetriever.entityCallbacks.remove(singletonTarget);
+				callbacks.remove(singletonTarget);
 			}
-			this.defaultRetriever.entityCallbacks.add(callback);
-			this.retrieverCache.clear();
-		}
+			callbacks.add(callback);
+		});
 	}
 
 	void addEntityCallbackBean(String callbackBeanName) {
-
-		synchronized (this.retrievalMutex) {
-			this.defaultRetriever.entityCallbackBeans.add(callbackBeanName);
-			this.retrieverCache.clear();
-		}
+		updateRegistrations((callbacks, callbackBeans) -> callbackBeans.add(callbackBeanName));
 	}
 
 	void removeEntityCallback(EntityCallback<?> callback) {
-
-		synchronized (this.retrievalMutex) {
-			this.defaultRetriever.entityCallbacks.remove(callback);
-			this.retrieverCache.clear();
-		}
+		updateRegistrations((callbacks, callbackBeans) -> callbacks.remove(callback));
 	}
 
 	void removeEntityCallbackBean(String callbackBeanName) {
-
-		synchronized (this.retrievalMutex) {
-			this.defaultRetriever.entityCallbackBeans.remove(callbackBeanName);
-			this.retrieverCache.clear();
-		}
+		updateRegistrations((callbacks, callbackBeans) -> callbackBeans.remove(callbackBeanName));
 	}
 
 	void clear() {
 
-		synchronized (this.retrievalMutex) {
-			this.defaultRetriever.entityCallbacks.clear();
-			this.defaultRetriever.entityCallbackBeans.clear();
-			this.retrieverCache.clear();
+		updateRegistrations((callbacks, callbackBeans) -> {
+			callbacks.clear();
+			callbackBeans.clear();
+		});
+	}
+
+	/**
+	 * Apply the given update to a copy of the current registrations and publish the copy along with an empty
+	 * {@link RetrieverCache}. Retrievals in progress keep working on the previous registrations and populate the previous
+	 * cache only, so they never leak stale callbacks into the new one.
+	 *
+	 * @param update must not be {@literal null}.
+	 */
+	private void updateRegistrations(BiConsumer<Set<EntityCallback<?>>, Set<String>> update) {
+
+		synchronized (this.registrationMonitor) {
+
+			Registrations current = this.retrieverCache.registrations;
+			Set<EntityCallback<?>> callbacks = new LinkedHashSet<>(current.callbacks);
+			Set<String> callbackBeans = new LinkedHashSet<>(current.callbackBeans);
+
+			update.accept(callbacks, callbackBeans);
+
+			this.retrieverCache = new RetrieverCache(new Registrations(callbacks, callbackBeans));
 		}
 	}
 
@@ -132,35 +140,76 @@ class EntityCallbackDiscoverer {
 	 * @see EntityCallback
 	 */
 	<T extends S, S> Collection<EntityCallback<S>> getEntityCallbacks(Class<T> entity, ResolvableType callbackType) {
+		return (Collection<EntityCallback<S>>) (Collection) getRetriever(entity, callbackType).getEntityCallbacks();
+	}
 
-		Class<?> sourceType = entity;
-		CallbackCacheKey cacheKey = new CallbackCacheKey(callbackType, sourceType);
+	/**
+	 * Return the {@link EntityCallbackChain} to invoke for the given entity type, callback type and additional callback
+	 * arguments. Chains are cached along with the matching callbacks unless they involve non-singleton callback beans.
+	 *
+	 * @param entityType the user class of the entity to be called back for.
+	 * @param callbackType the callback type.
+	 * @param args the additional callback arguments.
+	 * @return the {@link EntityCallbackChain} to invoke.
+	 */
+	EntityCallbackChain getEntityCallbackChain(Class<?> entityType, Class<?> callbackType, Object[] args) {
+
+		// Fast path without allocating a cache key
+		CallbackRetriever retriever = this.retrieverCache.get(callbackType, entityType);
 
-		// Quick check for existing entry on ConcurrentHashMap...
-		CallbackRetriever retriever = this.retrieverCache.get(cacheKey);
 		if (retriever != null) {
-			return (Collection<EntityCallback<S>>) (Collection) retriever.getEntityCallbacks();
-		}
 
-		if (this.beanClassLoader == null || (ClassUtils.isCacheSafe(entity.getClass(), this.beanClassLoader)
-				&& (sourceType == null || ClassUtils.isCacheSafe(sourceType, this.beanClassLoader)))) {
+			EntityCallbackChain chain = retriever.chain;
 
-			// Fully synchronized building and caching of a CallbackRetriever
-			synchronized (this.retrievalMutex) {
-				retriever = this.retrieverCache.get(cacheKey);
-				if (retriever != null) {
-					return (Collection<EntityCallback<S>>) (Collection) retriever.getEntityCallbacks();
-				}
-				retriever = new CallbackRetriever(true);
-				Collection<EntityCallback<?>> callbacks = retrieveEntityCallbacks(ResolvableType.forClass(sourceType),
-						callbackType, retriever);
-				this.retrieverCache.put(cacheKey, retriever);
-				return (Collection<EntityCallback<S>>) (Collection) callbacks;
+			if (chain != null && chain.getArity() == args.length) {
+				return chain;
 			}
 		} else {
-			// No CallbackRetriever caching -> no synchronization necessary
-			return (Collection<EntityCallback<S>>) (Collection) retrieveEntityCallbacks(callbackType, callbackType, null);
+			retriever = getRetriever(entityType, callbackTypeCache.computeIfAbsent(callbackType, ResolvableType::forClass));
 		}
+
+		EntityCallbackChain chain = new EntityCallbackChain(retriever.getEntityCallbacks(),
+				getCallbackMethod(callbackType, entityType, args));
+
+		if (retriever.isCacheable()) {
+			retriever.chain = chain;
+		}
+
+		return chain;
+	}
+
+	/**
+	 * Return the {@link CallbackRetriever} for the given entity and callback type. Retrievers are built outside of any
+	 * lock and published per key, concurrent retrievals of the same key may build the retriever more than once but
+	 * agree on the published instance.
+	 *
+	 * @param entityType the entity type.
+	 * @param callbackType the source callback type.
+	 * @return the {@link CallbackRetriever}, not cached if the entity type is not cache-safe.
+	 */
+	private CallbackRetriever getRetriever(Class<?> entityType, ResolvableType callbackType) {
+
+		RetrieverCache cache = this.retrieverCache;
+		Object callbackTypeKey = RetrieverCache.getCacheKey(callbackType);
+		CallbackRetriever retriever = cache.get(callbackTypeKey, entityType);
+
+		if (retriever != null) {
+			return retriever;
+		}
+
+		retriever = retrieveEntityCallbacks(cache.registrations, ResolvableType.forClass(entityType), callbackType);
+
+		if (this.beanClassLoader != null && !ClassUtils.isCacheSafe(entityType, this.beanClassLoader)) {
+			return retriever;
+		}
+
+		return cache.putIfAbsent(callbackTypeKey, entityType, retriever);
+	}
+
+	private CallbackMethod getCallbackMethod(Class<?> callbackType, Class<?> entityType, Object[] args) {
+
+		return callbackMethodCache.computeIfAbsent(new CallbackMethodCacheKey(callbackType, entityType, args.length),
+				it -> new CallbackMethod(lookupCallbackMethod(callbackType, entityType, args)));
 	}
 
 	@Nullable
@@ -179,46 +228,38 @@ class EntityCallbackDiscoverer {
 	/**
 	 * Actually retrieve the callbacks for the given entity and callback type.
 	 *
+	 * @param registrations the registered callbacks and callback bean names.
 	 * @param entityType the entity type.
 	 * @param callbackType the source callback type.
-	 * @param retriever the {@link CallbackRetriever}, if supposed to populate one (for caching purposes)
-	 * @return the pre-filtered list of entity callbacks for the given entity and callback type.
+	 * @return the {@link CallbackRetriever} holding the pre-filtered entity callbacks for the given entity and callback
+	 *         type.
 	 */
-	private Collection<EntityCallback<?>> retrieveEntityCallbacks(ResolvableType entityType, ResolvableType callbackType,
-			@Nullable CallbackRetriever retriever) {
+	private CallbackRetriever retrieveEntityCallbacks(Registrations registrations, ResolvableType entityType,
+			ResolvableType callbackType) {
 
 		List<EntityCallback<?>> allCallbacks = new ArrayList<>();
-		Set<EntityCallback<?>> callbacks;
-		Set<String> callbackBeans;
+		Set<EntityCallback<?>> filteredCallbacks = new LinkedHashSet<>();
+		Set<String> filteredCallbackBeans = new LinkedHashSet<>();
 
-		synchronized (this.retrievalMutex) {
-			callbacks = new LinkedHashSet<>(this.defaultRetriever.entityCallbacks);
-			callbackBeans = new LinkedHashSet<>(this.defaultRetriever.entityCallbackBeans);
-		}
-
-		for (EntityCallback<?> callback : callbacks) {
+		for (EntityCallback<?> callback : registrations.callbacks) {
 			if (supportsEvent(callback, entityType, callbackType)) {
-				if (retriever != null) {
-					retriever.getEntityCallbacks().add(callback);
-				}
+				filteredCallbacks.add(callback);
 				allCallbacks.add(callback);
 			}
 		}
 
-		if (!callbackBeans.isEmpty()) {
+		if (!registrations.callbackBeans.isEmpty()) {
 			BeanFactory beanFactory = getRequiredBeanFactory();
-			for (String callbackBeanName : callbackBeans) {
+			for (String callbackBeanName : registrations.callbackBeans) {
 				try {
 					Class<?> callbackImplType = beanFactory.getType(callbackBeanName);
 					if (callbackImplType == null || supportsEvent(callbackImplType, entityType)) {
 						EntityCallback<?> callback = beanFactory.getBean(callbackBeanName, EntityCallback.class);
 						if (!allCallbacks.contains(callback) && supportsEvent(callback, entityType, callbackType)) {
-							if (retriever != null) {
-								if (beanFactory.isSingleton(callbackBeanName)) {
-									retriever.entityCallbacks.add(callback);
-								} else {
-									retriever.entityCallbackBeans.add(callbackBeanName);
-								}
+							if (beanFactory.isSingleton(callbackBeanName)) {
+								filteredCallbacks.add(callback);
+							} else {
+								filteredCallbackBeans.add(callbackBeanName);
 							}
 							allCallbacks.add(callback);
 						}
@@ -230,14 +271,13 @@ class EntityCallbackDiscoverer {
 			}
 		}
 
-		AnnotationAwareOrderComparator.sort(allCallbacks);
-
-		if (retriever != null && retriever.entityCallbackBeans.isEmpty()) {
-			retriever.entityCallbacks.clear();
-			retriever.entityCallbacks.addAll(allCallbacks);
+		if (!filteredCallbackBeans.isEmpty()) {
+			return new CallbackRetriever(filteredCallbacks, filteredCallbackBeans);
 		}
 
-		return allCallbacks;
+		AnnotationAwareOrderComparator.sort(allCallbacks);
+
+		return new CallbackRetriever(allCallbacks, Collections.emptySet());
 	}
 
 	/**
@@ -291,15 +331,14 @@ class EntityCallbackDiscoverer {
 
 		this.beanFactory = beanFactory;
 
-		if (beanFactory instanceof ConfigurableBeanFactory cbf) {
-			if (this.beanClassLoader == null) {
-				this.beanClassLoader = cbf.getBeanClassLoader();
-			}
-			this.retrievalMutex = cbf.getSingletonMutex();
+		if (beanFactory instanceof ConfigurableBeanFactory cbf && this.beanClassLoader == null) {
+			this.beanClassLoader = cbf.getBeanClassLoader();
 		}
 
-		defaultRetriever.discoverEntityCallbacks(this.beanFactory);
-		this.retrieverCache.clear();
+		List<EntityCallback<?>> discovered = new ArrayList<>();
+		beanFactory.getBeanProvider(EntityCallback.class).stream().forEach(discovered::add);
+
+		updateRegistrations((callbacks, callbackBeans) -> callbacks.addAll(discovered));
 	}
 
 	@Nullable
@@ -326,21 +365,6 @@ class EntityCallbackDiscoverer {
 						ClassUtils.getShortName(callbackType), ClassUtils.getShortName(entityType), args.length));
 	}
 
-	static <T> BiFunction<EntityCallback<T>, T, Object> computeCallbackInvokerFunction(EntityCallback<T> callback,
-			Method callbackMethod, Object[] args) {
-
-		return (entityCallback, entity) -> {
-
-			Object[] invocationArgs = new Object[args.length + 1];
-			invocationArgs[0] = entity;
-			if (args.length > 0) {
-				System.arraycopy(args, 0, invocationArgs, 1, args.length);
-			}
-
-			return ReflectionUtils.invokeMethod(callbackMethod, callback, invocationArgs);
-		};
-	}
-
 	private BeanFactory getRequiredBeanFactory() {
 
 		Assert.state(beanFactory != null,
@@ -354,91 +378,151 @@ class EntityCallbackDiscoverer {
 	 */
 	class CallbackRetriever {
 
-		private final Set<EntityCallback<?>> entityCallbacks = new LinkedHashSet<>();
+		private final List<EntityCallback<?>> entityCallbacks;
 
-		private final Set<String> entityCallbackBeans = new LinkedHashSet<>();
+		private final Set<String> entityCallbackBeans;
 
-		private final boolean preFiltered;
+		private volatile @Nullable EntityCallbackChain chain;
 
-		CallbackRetriever(boolean preFiltered) {
-			this.preFiltered = preFiltered;
+		CallbackRetriever(Collection<EntityCallback<?>> entityCallbacks, Set<String> entityCallbackBeans) {
+
+			this.entityCallbacks = Collections.unmodifiableList(new ArrayList<>(entityCallbacks));
+			this.entityCallbackBeans = entityCallbackBeans;
+		}
+
+		/**
+		 * Returns whether the callbacks are fixed, i.e. do not involve non-singleton callback beans that need to be
+		 * obtained from the {@link BeanFactory} for each retrieval.
+		 *
+		 * @return
+		 */
+		boolean isCacheable() {
+			return this.entityCallbackBeans.isEmpty();
 		}
 
 		Collection<EntityCallback<?>> getEntityCallbacks() {
 
+			if (this.entityCallbackBeans.isEmpty()) {
+				return this.entityCallbacks;
+			}
+
 			List<EntityCallback<?>> allCallbacks = new ArrayList<>(
 					this.entityCallbacks.size() + this.entityCallbackBeans.size());
 			allCallbacks.addAll(this.entityCallbacks);
 
-			if (!this.entityCallbackBeans.isEmpty()) {
-				BeanFactory beanFactory = getRequiredBeanFactory();
-				for (String callbackBeanName : this.entityCallbackBeans) {
-					try {
-						EntityCallback<?> callback = beanFactory.getBean(callbackBeanName, EntityCallback.class);
-						if (this.preFiltered || !allCallbacks.contains(callback)) {
-							allCallbacks.add(callback);
-						}
-					} catch (NoSuchBeanDefinitionException ex) {
-						// Singleton callback instance (without backing bean definition) disappeared -
-						// probably in the middle of the destruction phase
-					}
+			BeanFactory beanFactory = getRequiredBeanFactory();
+			for (String callbackBeanName : this.entityCallbackBeans) {
+				try {
+					allCallbacks.add(beanFactory.getBean(callbackBeanName, EntityCallback.class));
+				} catch (NoSuchBeanDefinitionException ex) {
+					// Singleton callback instance (without backing bean definition) disappeared -
+					// probably in the middle of the destruction phase
 				}
 			}
 
-			if (!this.preFiltered || !this.entityCallbackBeans.isEmpty()) {
-				AnnotationAwareOrderComparator.sort(allCallbacks);
-			}
+			AnnotationAwareOrderComparator.sort(allCallbacks);
 
 			return allCallbacks;
 		}
+	}
+
+	/**
+	 * Immutable snapshot of the registered {@link EntityCallback callbacks} and callback bean names. Replaced as a whole
+	 * when registrations change.
+	 */
+	static final class Registrations {
+
+		static final Registrations NONE = new Registrations(Collections.emptySet(), Collections.emptySet());
+
+		private final Set<EntityCallback<?>> callbacks;
+		private final Set<String> callbackBeans;
+
+		Registrations(Set<EntityCallback<?>> callbacks, Set<String> callbackBeans) {
 
-		void discoverEntityCallbacks(BeanFactory beanFactory) {
-			beanFactory.getBeanProvider(EntityCallback.class).stream().forEach(entityCallbacks::add);
+			this.callbacks = Collections.unmodifiableSet(callbacks);
+			this.callbackBeans = Collections.unmodifiableSet(callbackBeans);
 		}
 	}
 
 	/**
-	 * Cache key for {@link EntityCallback}, based on event type and source type.
+	 * Cache of {@link CallbackRetriever}s for a particular {@link Registrations} snapshot. Retrievers are held in nested
+	 * tables, by callback type and then by entity type, so that lookups for a callback {@link Class} do not need to
+	 * allocate a composite key. Callback types are keyed by their {@link Class} if they are backed by one, by their
+	 * {@link ResolvableType} otherwise.
 	 */
-	static final class CallbackCacheKey implements Comparable<CallbackCacheKey> {
+	static final class RetrieverCache {
 
-		private final ResolvableType callbackType;
+		private final Registrations registrations;
+		private final Map<Object, Map<Class<?>, CallbackRetriever>> retrievers = new ConcurrentHashMap<>(16);
 
-		private final Class<?> entityType;
+		RetrieverCache(Registrations registrations) {
+			this.registrations = registrations;
+		}
+
+		static Object getCacheKey(ResolvableType callbackType) {
+			return callbackType.getType() instanceof Class<?> type ? type : callbackType;
+		}
+
+		@Nullable
+		CallbackRetriever get(Object callbackTypeKey, Class<?> entityType) {
 
-		public CallbackCacheKey(ResolvableType callbackType, @Nullable Class<?> entityType) {
+			Map<Class<?>, CallbackRetriever> byEntityType = this.retrievers.get(callbackTypeKey);
+
+			return byEntityType == null ? null : byEntityType.get(entityType);
+		}
 
-			Assert.notNull(callbackType, "Callback type must not be null");
-			Assert.notNull(entityType, "Entity type must not be null");
+		/**
+		 * Publish the given {@link CallbackRetriever} unless a retriever has been published for the same key already.
+		 *
+		 * @return the published {@link CallbackRetriever}.
+		 */
+		CallbackRetriever putIfAbsent(Object callbackTypeKey, Class<?> entityType, CallbackRetriever retriever) {
+
+			CallbackRetriever existing = this.retrievers
+					.computeIfAbsent(callbackTypeKey, it -> new ConcurrentHashMap<>(16)) //
+					.putIfAbsent(entityType, retriever);
+
+			return existing != null ? existing : retriever;
+		}
+	}
+
+	/**
+	 * Cache key for callback methods, based on callback type, entity type and the number of additional arguments.
+	 */
+	static final class CallbackMethodCacheKey {
+
+		private final Class<?> callbackType;
+		private final Class<?> entityType;
+		private final int arity;
+
+		CallbackMethodCacheKey(Class<?> callbackType, Class<?> entityType, int arity) {
 
 			this.callbackType = callbackType;
 			this.entityType = entityType;
+			this.arity = arity;
 		}
 
 		@Override
-		public boolean equals(Object other) {
+		public boolean equals(@Nullable Object other) {
 
 			if (this == other) {
 				return true;
 			}
 
-			CallbackCacheKey otherKey = (CallbackCacheKey) other;
+			if (!(other instanceof CallbackMethodCacheKey that)) {
+				return false;
+			}
 
-			return (this.callbackType.equals(otherKey.callbackType)
-					&& ObjectUtils.nullSafeEquals(this.entityType, otherKey.entityType));
+			return callbackType == that.callbackType && entityType == that.entityType && arity == that.arity;
 		}
 
 		@Override
 		public int hashCode() {
-			return this.callbackType.hashCode() * 17 + ObjectUtils.nullSafeHashCode(this.entityType);
-		}
-
-		@Override
-		public int compareTo(CallbackCacheKey other) {
-
-			return Comparators.<CallbackCacheKey> nullsHigh().thenComparing(it -> callbackType.toString())
-					.thenComparing(it -> entityType.getName()).compare(this, other);
 
+			int result = callbackType.hashCode();
+			result = 31 * result + entityType.hashCode();
+			result = 31 * result + arity;
+			return result;
 		}
 	}
 
@@ -15,8 +15,11 @@
  */
 package org.springframework.data.mapping.callback;
 
+import java.util.List;
 import java.util.function.BiFunction;
 
+import org.springframework.lang.Nullable;
+
 /**
  * @author Christoph Strobl
  * @since 2.2
@@ -35,6 +38,32 @@ interface EntityCallbackInvoker {
 	<T> Object invokeCallback(EntityCallback<T> callback, T entity,
 			BiFunction<EntityCallback<T>, T, Object> callbackInvokerFunction);
 
+	/**
+	 * Verify the result of a batch callback invocation contains an entity for each entity of the batch.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @param result can be {@literal null}.
+	 * @return the result.
+	 * @throws IllegalArgumentException if the result is {@literal null} or does not match the size of the batch.
+	 * @since 3.0
+	 */
+	static <T> List<T> checkBatchResult(EntityCallback<T> callback, List<T> batch, @Nullable List<T> result) {
+
+		if (result == null) {
+			throw new IllegalArgumentException(
+					String.format("Batch callback invocation on %s returned null value", callback.getClass()));
+		}
+
+		if (result.size() != batch.size()) {
+			throw new IllegalArgumentException(
+					String.format("Batch callback invocation on %s returned %d entities for a batch of %d", callback.getClass(),
+							result.size(), batch.size()));
+		}
+
+		return result;
+	}
+
 	static boolean matchesClassCastMessage(String exceptionMessage, Class<?> eventClass) {
 
 		// On Java 8, the message starts with the class name: "java.lang.String cannot be cast..."
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.mapping.callback;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.util.Assert;
 
@@ -49,6 +52,33 @@ public interface EntityCallbacks {
 	 */
 	<T> T callback(Class<? extends EntityCallback> callbackType, T entity, Object... args);
 
+	/**
+	 * Invoke matching {@link EntityCallback entity callbacks} with given arguments for all given entities.
+	 * Entities are processed per entity class. {@link BatchEntityCallback Batch callbacks} are invoked once per entity
+	 * class with all given entities of that class, i.e. a batch callback registered for a super type is invoked once for
+	 * each of its subclasses present in the given entities. Other callbacks are invoked for each entity.
+	 *
+	 * @param callbackType must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param args optional arguments.
+	 * @param <T> Entity type.
+	 * @return the callback results in the order of the given entities, never {@literal null}.
+	 * @throws IllegalArgumentException if a required argument is {@literal null}.
+	 * @since 3.0
+	 */
+	default <T> List<T> callbackAll(Class<? extends EntityCallback> callbackType, List<T> entities, Object... args) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		List<T> result = new ArrayList<>(entities.size());
+
+		for (T entity : entities) {
+			result.add(callback(callbackType, entity, args));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Create a new {@link EntityCallbacks} instance with given {@link EntityCallback callbacks}. <br />
 	 * The provided {@link EntityCallback callbacks} are immediately {@link #addEntityCallback(EntityCallback) added}.
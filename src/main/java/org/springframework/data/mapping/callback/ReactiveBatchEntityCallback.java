@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.callback;
+
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Reactive variant of {@link BatchEntityCallback} emitting the processed batch asynchronously, e.g. after obtaining the
+ * current auditor from a reactive source once per batch. Used by
+ * {@link ReactiveEntityCallbacks#callbackAll(Class, List, Object...)}.
+ *
+ * @param <T> Entity type used to detect {@link EntityCallback callbacks} to invoke via their generic type signature.
+ * @since 3.0
+ * @see BatchEntityCallback
+ */
+public interface ReactiveBatchEntityCallback<T> extends EntityCallback<T> {
+
+	/**
+	 * Process the given batch of entities.
+	 *
+	 * @param callbackType the callback type the batch is processed for, allows callbacks implementing multiple callback
+	 *          interfaces to tell invocations apart.
+	 * @param entities the entities to process, never {@literal null} or empty. The {@link List} must not be modified.
+	 * @param args the additional callback arguments.
+	 * @return a {@link Publisher} emitting the entities to pass on to subsequent callbacks in the same order as the given
+	 *         ones. Must emit a {@link List} containing the same number of entities.
+	 */
+	Publisher<List<T>> onBatch(Class<? extends EntityCallback> callbackType, List<T> entities, Object... args);
+}
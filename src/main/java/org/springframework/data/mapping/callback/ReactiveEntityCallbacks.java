@@ -15,8 +15,11 @@
  */
 package org.springframework.data.mapping.callback;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.util.Assert;
 
@@ -52,6 +55,29 @@ public interface ReactiveEntityCallbacks {
 	 */
 	<T> Mono<T> callback(Class<? extends EntityCallback> callbackType, T entity, Object... args);
 
+	/**
+	 * On {@link Mono#subscribe() subscribe} invoke the matching {@link EntityCallback entity callbacks} with given
+	 * arguments for all given entities. Entities are processed per entity class. {@link BatchEntityCallback Batch
+	 * callbacks} and {@link ReactiveBatchEntityCallback reactive batch callbacks} are invoked once per entity class with
+	 * all given entities of that class, i.e. a batch callback registered for a super type is invoked once for each of its
+	 * subclasses present in the given entities. Other callbacks are invoked for each entity.
+	 *
+	 * @param callbackType must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param args optional arguments.
+	 * @param <T> Entity type.
+	 * @return a {@link Mono} emitting the callback results in the order of the given entities.
+	 * @throws IllegalArgumentException if a required argument is {@literal null}.
+	 * @since 3.0
+	 */
+	default <T> Mono<List<T>> callbackAll(Class<? extends EntityCallback> callbackType, List<T> entities,
+			Object... args) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		return Flux.fromIterable(entities).concatMap(it -> callback(callbackType, it, args)).collectList();
+	}
+
 	/**
 	 * Create a new {@link ReactiveEntityCallbacks} instance with given {@link EntityCallback callbacks}. <br />
 	 * The provided {@link EntityCallback callbacks} are immediately {@link #addEntityCallback(EntityCallback) added}.
@@ -69,7 +69,8 @@ class DefaultPersistentPropertyPath<P extends PersistentProperty<P>> implements
 	 *
 	 * @param property must not be {@literal null}.
 	 * @return a new {@link DefaultPersistentPropertyPath} with the given property appended to the current one.
-	 * @throws IllegalArgumentException in case the property is not a property of the type of the current leaf property.
+	 * @throws IllegalArgumentException in case the property is not a property of the type of the current leaf property
+	 *           or one of its subtypes.
 	 */
 	public DefaultPersistentPropertyPath<P> append(P property) {
 
@@ -82,7 +83,7 @@ class DefaultPersistentPropertyPath<P extends PersistentProperty<P>> implements
 		@SuppressWarnings("null")
 		Class<?> leafPropertyType = getLeafProperty().getActualType();
 
-		Assert.isTrue(property.getOwner().getType().equals(leafPropertyType),
+		Assert.isTrue(leafPropertyType.isAssignableFrom(property.getOwner().getType()),
 				() -> String.format("Cannot append property %s to type %s!", property.getName(), leafPropertyType.getName()));
 
 		List<P> properties = new ArrayList<>(this.properties);
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Opt-in dirty tracking for entities managed by a {@link MappingContext}. {@link #snapshot(Object)} captures the state
+ * of an entity, {@link EntitySnapshot#getChangedProperties()} reports the {@link PersistentPropertyPath}s of the
+ * properties that have changed since. For immutable entities, {@link EntitySnapshot#getChangedProperties(Object)}
+ * compares the captured state with a modified copy of the entity instead.
+ * <p>
+ * Snapshots are cheap by design: values of simple properties are held as captured, except for {@link Date} and
+ * {@link Calendar} values and arrays of simple values, which are mutable and thus copied on read so that modifying them
+ * in place is detected. Other mutable simple types are not copied. Primitive values are read directly from their
+ * fields where possible and compared without boxing. Nested entities are tracked property by property along the
+ * properties of their actual type. Values of collection, map and association properties are not copied but compared by
+ * reference, i.e. only replacing them is detected, modifying them in place is not.
+ * <p>
+ * The snapshot plan is computed once per entity type and cached, so trackers should be reused.
+ *
+ * @param <P> the property type.
+ * @since 3.0
+ */
+public class EntityChangeTracker<P extends PersistentProperty<P>> {
+
+	private static final MethodType LONG_GETTER = MethodType.methodType(long.class, Object.class);
+	private static final MethodHandle DOUBLE_TO_LONG;
+	private static final MethodHandle BOOLEAN_TO_LONG;
+
+	static {
+
+		try {
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			DOUBLE_TO_LONG = lookup.findStatic(Double.class, "doubleToRawLongBits",
+					MethodType.methodType(long.class, double.class));
+			BOOLEAN_TO_LONG = lookup.findStatic(EntityChangeTracker.class, "toLong",
+					MethodType.methodType(long.class, boolean.class));
+
+		} catch (ReflectiveOperationException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private final MappingContext<? extends PersistentEntity<?, P>, P> context;
+	private final Map<Class<?>, SnapshotPlan<P>> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link EntityChangeTracker} for the entities of the given {@link MappingContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public EntityChangeTracker(MappingContext<? extends PersistentEntity<?, P>, P> context) {
+
+		Assert.notNull(context, "MappingContext must not be null!");
+
+		this.context = context;
+	}
+
+	/**
+	 * Captures the current state of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link EntitySnapshot} to obtain the properties changed since.
+	 */
+	public <T> EntitySnapshot<T, P> snapshot(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		return new EntitySnapshot<>(entity, getPlan(entity.getClass()).capture(entity, visited));
+	}
+
+	private SnapshotPlan<P> getPlan(Class<?> type) {
+
+		SnapshotPlan<P> plan = plans.get(type);
+
+		if (plan != null) {
+			return plan;
+		}
+
+		// nested plans are resolved on capture, so building a plan does not recurse into cyclic types
+		plan = new SnapshotPlan<>(this, context.getRequiredPersistentEntity(type));
+
+		SnapshotPlan<P> existing = plans.putIfAbsent(type, plan);
+
+		return existing != null ? existing : plan;
+	}
+
+	@SuppressWarnings("unused")
+	private static long toLong(boolean value) {
+		return value ? 1 : 0;
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} reading the given primitive property from its field as {@code long}, or
+	 * {@literal null} if the value has to be read through a {@link PersistentPropertyAccessor}.
+	 */
+	@Nullable
+	private static MethodHandle getPrimitiveGetter(PersistentProperty<?> property) {
+
+		Field field = property.getField();
+
+		if (field == null || property.usePropertyAccess() || !field.getType().isPrimitive()) {
+			return null;
+		}
+
+		MethodHandle getter;
+
+		try {
+
+			ReflectionUtils.makeAccessible(field);
+			getter = MethodHandles.lookup().unreflectGetter(field);
+
+		} catch (IllegalAccessException | RuntimeException o_O) {
+			return null;
+		}
+
+		Class<?> type = field.getType();
+		MethodType source = getter.type();
+
+		if (type == boolean.class) {
+			getter = MethodHandles.filterReturnValue(getter, BOOLEAN_TO_LONG);
+		} else if (type == double.class || type == float.class) {
+			getter = MethodHandles.filterReturnValue(getter.asType(source.changeReturnType(double.class)), DOUBLE_TO_LONG);
+		}
+
+		return getter.asType(LONG_GETTER);
+	}
+
+	/**
+	 * The properties to capture for a particular entity type. Primitive values are held in a {@code long[]}, all other
+	 * values in an {@code Object[]}.
+	 */
+	private static final class SnapshotPlan<P extends PersistentProperty<P>> {
+
+		private final PersistentEntity<?, P> entity;
+		private final List<Slot<P>> slots = new ArrayList<>();
+		private final int primitives;
+		private final int values;
+
+		SnapshotPlan(EntityChangeTracker<P> tracker, PersistentEntity<?, P> entity) {
+
+			this.entity = entity;
+
+			int primitives = 0;
+			int values = 0;
+
+			for (P property : entity) {
+
+				if (property.isTransient()) {
+					continue;
+				}
+
+				MethodHandle getter = getPrimitiveGetter(property);
+
+				if (getter != null) {
+					slots.add(new PrimitiveSlot<>(property, primitives++, getter));
+				} else if (property.isEntity() && !property.isAssociation() && !property.isCollectionLike()
+						&& !property.isMap()) {
+					slots.add(new NestedSlot<>(property, values++, tracker));
+				} else if (property.getType().isArray() && !property.isEntity() && !property.isAssociation()) {
+					slots.add(new ValueSlot<>(property, values++));
+				} else if (property.isAssociation() || property.isCollectionLike() || property.isMap()) {
+					slots.add(new ReferenceSlot<>(property, values++));
+				} else {
+					slots.add(new ValueSlot<>(property, values++));
+				}
+			}
+
+			this.primitives = primitives;
+			this.values = values;
+		}
+
+		EntityState<P> capture(Object bean, Set<Object> visited) {
+
+			visited.add(bean);
+
+			EntityState<P> state = new EntityState<>(this, new long[primitives], new Object[values]);
+			PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(bean);
+
+			for (Slot<P> slot : slots) {
+				slot.capture(bean, accessor, state, visited);
+			}
+
+			return state;
+		}
+	}
+
+	/**
+	 * The captured state of an entity.
+	 */
+	static final class EntityState<P extends PersistentProperty<P>> {
+
+		private final SnapshotPlan<P> plan;
+		private final long[] primitives;
+		private final Object[] values;
+
+		EntityState(SnapshotPlan<P> plan, long[] primitives, Object[] values) {
+
+			this.plan = plan;
+			this.primitives = primitives;
+			this.values = values;
+		}
+
+		/**
+		 * Collects the paths of the properties of the given bean that differ from the captured state.
+		 *
+		 * @param bean the instance the state was captured from or an instance of the same type.
+		 * @param base the path of the property holding the bean.
+		 * @param changes the paths collected so far.
+		 * @param byIdentity whether nested entities held by a different instance than captured are reported as a whole
+		 *          instead of being compared property by property.
+		 */
+		void collectChanges(Object bean, DefaultPersistentPropertyPath<P> base, Set<PersistentPropertyPath<P>> changes,
+				boolean byIdentity) {
+
+			PersistentPropertyAccessor<Object> accessor = plan.entity.getPropertyAccessor(bean);
+
+			for (Slot<P> slot : plan.slots) {
+				slot.collectChanges(bean, accessor, this, base, changes, byIdentity);
+			}
+		}
+	}
+
+	private static abstract class Slot<P extends PersistentProperty<P>> {
+
+		protected final P property;
+		protected final int index;
+
+		Slot(P property, int index) {
+
+			this.property = property;
+			this.index = index;
+		}
+
+		abstract void capture(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				Set<Object> visited);
+
+		abstract boolean hasChanged(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state);
+
+		void collectChanges(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				DefaultPersistentPropertyPath<P> base, Set<PersistentPropertyPath<P>> changes, boolean byIdentity) {
+
+			if (hasChanged(bean, accessor, state)) {
+				changes.add(base.append(property));
+			}
+		}
+	}
+
+	/**
+	 * Primitive property read from its field without boxing.
+	 */
+	private static final class PrimitiveSlot<P extends PersistentProperty<P>> extends Slot<P> {
+
+		private final MethodHandle getter;
+
+		PrimitiveSlot(P property, int index, MethodHandle getter) {
+
+			super(property, index);
+
+			this.getter = getter;
+		}
+
+		@Override
+		void capture(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				Set<Object> visited) {
+			state.primitives[index] = read(bean);
+		}
+
+		@Override
+		boolean hasChanged(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state) {
+			return state.primitives[index] != read(bean);
+		}
+
+		private long read(Object bean) {
+
+			try {
+				return (long) getter.invokeExact(bean);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Simple property compared by equality.
+	 */
+	private static final class ValueSlot<P extends PersistentProperty<P>> extends Slot<P> {
+
+		ValueSlot(P property, int index) {
+			super(property, index);
+		}
+
+		@Override
+		void capture(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				Set<Object> visited) {
+			state.values[index] = copyIfMutable(accessor.getProperty(property));
+		}
+
+		@Override
+		boolean hasChanged(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state) {
+			return !ObjectUtils.nullSafeEquals(state.values[index], accessor.getProperty(property));
+		}
+
+		/**
+		 * Copies values of the well-known mutable simple types, retaining their concrete type (e.g.
+		 * {@link java.sql.Timestamp}).
+		 */
+		@Nullable
+		private static Object copyIfMutable(@Nullable Object value) {
+
+			if (value instanceof Date date) {
+				return date.clone();
+			}
+
+			if (value instanceof Calendar calendar) {
+				return calendar.clone();
+			}
+
+			if (value != null && value.getClass().isArray()) {
+
+				int length = Array.getLength(value);
+				Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+				System.arraycopy(value, 0, copy, 0, length);
+
+				return copy;
+			}
+
+			return value;
+		}
+	}
+
+	/**
+	 * Collection, map or association property compared by reference.
+	 */
+	private static final class ReferenceSlot<P extends PersistentProperty<P>> extends Slot<P> {
+
+		ReferenceSlot(P property, int index) {
+			super(property, index);
+		}
+
+		@Override
+		void capture(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				Set<Object> visited) {
+			state.values[index] = accessor.getProperty(property);
+		}
+
+		@Override
+		boolean hasChanged(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state) {
+			return state.values[index] != accessor.getProperty(property);
+		}
+	}
+
+	/**
+	 * Nested entity tracked property by property along the properties of its actual type. When tracking changes of the
+	 * same entity instance, this happens only as long as the same nested instance is held by the property.
+	 */
+	private static final class NestedSlot<P extends PersistentProperty<P>> extends Slot<P> {
+
+		private final EntityChangeTracker<P> tracker;
+
+		NestedSlot(P property, int index, EntityChangeTracker<P> tracker) {
+
+			super(property, index);
+
+			this.tracker = tracker;
+		}
+
+		@Override
+		void capture(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				Set<Object> visited) {
+
+			Object value = accessor.getProperty(property);
+
+			// cyclic references are compared by reference only
+			state.values[index] = value == null || visited.contains(value) //
+					? new NestedState<P>(value, null) //
+					: new NestedState<>(value, tracker.getPlan(value.getClass()).capture(value, visited));
+		}
+
+		@Override
+		boolean hasChanged(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state) {
+			return ((NestedState<?>) state.values[index]).instance != accessor.getProperty(property);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		void collectChanges(Object bean, PersistentPropertyAccessor<Object> accessor, EntityState<P> state,
+				DefaultPersistentPropertyPath<P> base, Set<PersistentPropertyPath<P>> changes, boolean byIdentity) {
+
+			NestedState<P> nested = (NestedState<P>) state.values[index];
+			Object value = accessor.getProperty(property);
+
+			if (nested.instance == value) {
+
+				if (value != null && nested.state != null) {
+					nested.state.collectChanges(value, base.append(property), changes, byIdentity);
+				}
+
+				return;
+			}
+
+			// values of a different type cannot be compared along the captured properties
+			if (byIdentity || value == null || nested.instance == null || nested.state == null
+					|| !nested.instance.getClass().equals(value.getClass())) {
+				changes.add(base.append(property));
+			} else {
+				nested.state.collectChanges(value, base.append(property), changes, byIdentity);
+			}
+		}
+	}
+
+	private static final class NestedState<P extends PersistentProperty<P>> {
+
+		private final @Nullable Object instance;
+		private final @Nullable EntityState<P> state;
+
+		NestedState(@Nullable Object instance, @Nullable EntityState<P> state) {
+
+			this.instance = instance;
+			this.state = state;
+		}
+	}
+}
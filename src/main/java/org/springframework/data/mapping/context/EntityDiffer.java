@@ -0,0 +1,258 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Computes the structural differences between two instances of the same {@link PersistentEntity}, e.g. to write audit
+ * logs or to invalidate caches. Instances are walked through their {@link PersistentPropertyAccessor}s along the
+ * persistent properties of the entity:
+ * <ul>
+ * <li>Simple values are compared by equality and reported with their old and new value.</li>
+ * <li>Nested entities are compared property by property along the properties of their actual type and changes
+ * reported through the nested paths. Nested entities of different types or that have been added or removed are
+ * reported as a whole.</li>
+ * <li>Elements of collections of entities with an identifier are matched by identifier, entries of maps of entities by
+ * key. Added, removed and modified elements or entries are reported individually along with their identifier or key.
+ * Other collections and maps are compared by equality.</li>
+ * </ul>
+ * Identical references are considered unchanged without being traversed. Traversal stops at the configured maximum
+ * depth, values at that depth are compared by equality.
+ *
+ * @param <P> the property type.
+ * @since 3.0
+ */
+public class EntityDiffer<P extends PersistentProperty<P>> {
+
+	/**
+	 * The default maximum depth of nested entities to traverse.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 10;
+
+	private final MappingContext<? extends PersistentEntity<?, P>, P> context;
+	private final int maxDepth;
+
+	/**
+	 * Creates a new {@link EntityDiffer} traversing up to {@link #DEFAULT_MAX_DEPTH} levels of nested entities.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public EntityDiffer(MappingContext<? extends PersistentEntity<?, P>, P> context) {
+		this(context, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * Creates a new {@link EntityDiffer} traversing up to {@code maxDepth} levels of nested entities.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param maxDepth must not be negative.
+	 */
+	public EntityDiffer(MappingContext<? extends PersistentEntity<?, P>, P> context, int maxDepth) {
+
+		Assert.notNull(context, "MappingContext must not be null!");
+		Assert.isTrue(maxDepth >= 0, "Maximum depth must not be negative!");
+
+		this.context = context;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Returns the changes between the given instances of the same entity.
+	 *
+	 * @param before must not be {@literal null}.
+	 * @param after must not be {@literal null}.
+	 * @return the changes in property order, never {@literal null}.
+	 */
+	public List<PropertyChange<P>> diff(Object before, Object after) {
+
+		Assert.notNull(before, "Before must not be null!");
+		Assert.notNull(after, "After must not be null!");
+		Assert.isTrue(before.getClass().equals(after.getClass()),
+				() -> String.format("Cannot compare instances of different types %s and %s!", before.getClass().getName(),
+						after.getClass().getName()));
+
+		List<PropertyChange<P>> changes = new ArrayList<>();
+
+		if (before != after) {
+			diffEntity(context.getRequiredPersistentEntity(before.getClass()), before, after,
+					DefaultPersistentPropertyPath.empty(), 0, changes);
+		}
+
+		return changes;
+	}
+
+	private void diffEntity(PersistentEntity<?, P> entity, Object before, Object after,
+			DefaultPersistentPropertyPath<P> base, int depth, List<PropertyChange<P>> changes) {
+
+		PersistentPropertyAccessor<Object> beforeAccessor = entity.getPropertyAccessor(before);
+		PersistentPropertyAccessor<Object> afterAccessor = entity.getPropertyAccessor(after);
+
+		for (P property : entity) {
+
+			if (property.isTransient()) {
+				continue;
+			}
+
+			Object oldValue = beforeAccessor.getProperty(property);
+			Object newValue = afterAccessor.getProperty(property);
+
+			if (oldValue == newValue) {
+				continue;
+			}
+
+			DefaultPersistentPropertyPath<P> path = base.append(property);
+
+			if (oldValue == null || newValue == null || depth >= maxDepth || !property.isEntity()
+					|| property.isAssociation()) {
+				diffValue(path, null, oldValue, newValue, changes);
+			} else if (property.isMap()) {
+				diffMap(property, (Map<?, ?>) oldValue, (Map<?, ?>) newValue, path, depth, changes);
+			} else if (property.isCollectionLike()) {
+				diffCollection(property, oldValue, newValue, path, depth, changes);
+			} else {
+				diffNested(property, oldValue, newValue, path, null, depth, changes);
+			}
+		}
+	}
+
+	private void diffNested(P property, Object before, Object after, DefaultPersistentPropertyPath<P> path,
+			@Nullable Object key, int depth, List<PropertyChange<P>> changes) {
+
+		if (!before.getClass().equals(after.getClass())) {
+			changes.add(new PropertyChange<>(path, key, before, after));
+			return;
+		}
+
+		PersistentEntity<?, P> entity = context.getRequiredPersistentEntity(before.getClass());
+
+		if (key == null) {
+			diffEntity(entity, before, after, path, depth + 1, changes);
+			return;
+		}
+
+		// elements are reported as a whole, nested paths cannot identify the element
+		List<PropertyChange<P>> nested = new ArrayList<>();
+
+		diffEntity(entity, before, after, path, depth + 1, nested);
+
+		if (!nested.isEmpty()) {
+			changes.add(new PropertyChange<>(path, key, before, after));
+		}
+	}
+
+	private void diffMap(P property, Map<?, ?> before, Map<?, ?> after, DefaultPersistentPropertyPath<P> path,
+			int depth, List<PropertyChange<P>> changes) {
+
+		for (Entry<?, ?> entry : before.entrySet()) {
+
+			Object newValue = after.get(entry.getKey());
+
+			if (newValue == null && !after.containsKey(entry.getKey())) {
+				changes.add(new PropertyChange<>(path, entry.getKey(), entry.getValue(), null));
+			} else {
+				diffElement(property, entry.getValue(), newValue, path, entry.getKey(), depth, changes);
+			}
+		}
+
+		for (Entry<?, ?> entry : after.entrySet()) {
+			if (!before.containsKey(entry.getKey())) {
+				changes.add(new PropertyChange<>(path, entry.getKey(), null, entry.getValue()));
+			}
+		}
+	}
+
+	private void diffCollection(P property, Object before, Object after, DefaultPersistentPropertyPath<P> path,
+			int depth, List<PropertyChange<P>> changes) {
+
+		PersistentEntity<?, P> entity = context.getRequiredPersistentEntity(property);
+
+		if (!entity.hasIdProperty() || !(before instanceof Collection<?> left) || !(after instanceof Collection<?> right)) {
+			diffValue(path, null, before, after, changes);
+			return;
+		}
+
+		Map<Object, Object> oldElements = indexById(entity, left);
+		Map<Object, Object> newElements = indexById(entity, right);
+
+		if (oldElements == null || newElements == null) {
+			diffValue(path, null, before, after, changes);
+			return;
+		}
+
+		diffMap(property, oldElements, newElements, path, depth, changes);
+	}
+
+	private void diffElement(P property, @Nullable Object before, @Nullable Object after,
+			DefaultPersistentPropertyPath<P> path, Object key, int depth, List<PropertyChange<P>> changes) {
+
+		if (before == after) {
+			return;
+		}
+
+		if (before == null || after == null || depth + 1 >= maxDepth) {
+			diffValue(path, key, before, after, changes);
+		} else {
+			diffNested(property, before, after, path, key, depth, changes);
+		}
+	}
+
+	/**
+	 * Indexes the given elements by their identifier.
+	 *
+	 * @return the elements by identifier or {@literal null} if the elements cannot be identified unambiguously.
+	 */
+	@Nullable
+	private static Map<Object, Object> indexById(PersistentEntity<?, ?> entity, Collection<?> elements) {
+
+		Map<Object, Object> result = new LinkedHashMap<>(elements.size());
+
+		for (Object element : elements) {
+
+			if (element == null) {
+				return null;
+			}
+
+			Object id = entity.getIdentifierAccessor(element).getIdentifier();
+
+			if (id == null || result.put(id, element) != null) {
+				return null;
+			}
+		}
+
+		return result;
+	}
+
+	private void diffValue(DefaultPersistentPropertyPath<P> path, @Nullable Object key, @Nullable Object before,
+			@Nullable Object after, List<PropertyChange<P>> changes) {
+
+		if (!ObjectUtils.nullSafeEquals(before, after)) {
+			changes.add(new PropertyChange<>(path, key, before, after));
+		}
+	}
+}
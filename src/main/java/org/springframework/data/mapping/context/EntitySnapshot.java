@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.util.Assert;
+
+/**
+ * Snapshot of the state of an entity taken by an {@link EntityChangeTracker}, e.g. when the entity was loaded. Allows
+ * to determine the {@link PersistentPropertyPath}s of the properties that have changed since, so that stores can
+ * update only these instead of rewriting the entire aggregate. Immutable entities are modified by creating new
+ * instances, so their changes are determined by comparing the snapshot with the current instance through
+ * {@link #getChangedProperties(Object)}.
+ *
+ * @param <T> the entity type.
+ * @param <P> the property type.
+ * @since 3.0
+ * @see EntityChangeTracker#snapshot(Object)
+ */
+public final class EntitySnapshot<T, P extends PersistentProperty<P>> {
+
+	private final T entity;
+	private final EntityChangeTracker.EntityState<P> state;
+
+	EntitySnapshot(T entity, EntityChangeTracker.EntityState<P> state) {
+
+		this.entity = entity;
+		this.state = state;
+	}
+
+	/**
+	 * Returns the entity the snapshot was taken of.
+	 *
+	 * @return
+	 */
+	public T getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns the {@link PersistentPropertyPath}s of all properties whose value has changed since the snapshot was
+	 * taken, in property order. Nested entities that have been replaced or set to {@literal null} are reported through
+	 * the path of the property holding them, changes within nested entities through the paths of the nested properties.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Set<PersistentPropertyPath<P>> getChangedProperties() {
+		return collectChanges(entity, true);
+	}
+
+	/**
+	 * Returns the {@link PersistentPropertyPath}s of all properties whose value in the given instance differs from the
+	 * state captured by the snapshot, in property order. Nested entities are compared property by property, unless they
+	 * have been set to {@literal null} or replaced by an instance of a different type, which is reported through the
+	 * path of the property holding them. Values of collection, map and association properties are compared by
+	 * reference.
+	 *
+	 * @param current must not be {@literal null} and of the same type as the entity the snapshot was taken of.
+	 * @return never {@literal null}.
+	 */
+	public Set<PersistentPropertyPath<P>> getChangedProperties(T current) {
+
+		Assert.notNull(current, "Entity must not be null!");
+		Assert.isTrue(current.getClass().equals(entity.getClass()),
+				() -> String.format("Cannot compare instances of different types %s and %s!", entity.getClass().getName(),
+						current.getClass().getName()));
+
+		return collectChanges(current, current == entity);
+	}
+
+	/**
+	 * Returns whether any property has changed since the snapshot was taken.
+	 *
+	 * @return
+	 */
+	public boolean isDirty() {
+		return !getChangedProperties().isEmpty();
+	}
+
+	/**
+	 * Returns whether any property of the given instance differs from the state captured by the snapshot.
+	 *
+	 * @param current must not be {@literal null} and of the same type as the entity the snapshot was taken of.
+	 * @return
+	 * @see #getChangedProperties(Object)
+	 */
+	public boolean isDirty(T current) {
+		return !getChangedProperties(current).isEmpty();
+	}
+
+	private Set<PersistentPropertyPath<P>> collectChanges(T bean, boolean byIdentity) {
+
+		Set<PersistentPropertyPath<P>> changes = new LinkedHashSet<>();
+
+		state.collectChanges(bean, DefaultPersistentPropertyPath.empty(), changes, byIdentity);
+
+		return Collections.unmodifiableSet(changes);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A change of a property value detected by {@link EntityDiffer}.
+ *
+ * @param <P> the property type.
+ * @since 3.0
+ */
+public final class PropertyChange<P extends PersistentProperty<P>> {
+
+	private final PersistentPropertyPath<P> path;
+	private final @Nullable Object key;
+	private final @Nullable Object oldValue;
+	private final @Nullable Object newValue;
+
+	PropertyChange(PersistentPropertyPath<P> path, @Nullable Object key, @Nullable Object oldValue,
+			@Nullable Object newValue) {
+
+		this.path = path;
+		this.key = key;
+		this.oldValue = oldValue;
+		this.newValue = newValue;
+	}
+
+	/**
+	 * Returns the path of the changed property.
+	 *
+	 * @return
+	 */
+	public PersistentPropertyPath<P> getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the identifier of the collection element or the key of the map entry that has changed. Returns
+	 * {@literal null} for changes of plain property values.
+	 *
+	 * @return
+	 */
+	@Nullable
+	public Object getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the value before the change, {@literal null} if the value or element was added.
+	 *
+	 * @return
+	 */
+	@Nullable
+	public Object getOldValue() {
+		return oldValue;
+	}
+
+	/**
+	 * Returns the value after the change, {@literal null} if the value or element was removed.
+	 *
+	 * @return
+	 */
+	@Nullable
+	public Object getNewValue() {
+		return newValue;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PropertyChange<?> that)) {
+			return false;
+		}
+
+		return path.equals(that.path) //
+				&& ObjectUtils.nullSafeEquals(key, that.key) //
+				&& ObjectUtils.nullSafeEquals(oldValue, that.oldValue) //
+				&& ObjectUtils.nullSafeEquals(newValue, that.newValue);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = path.hashCode();
+
+		result = 31 * result + ObjectUtils.nullSafeHashCode(key);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(oldValue);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(newValue);
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+
+		String target = key == null ? path.toDotPath() : String.format("%s[%s]", path.toDotPath(), key);
+
+		return String.format("%s: %s -> %s", target, oldValue, newValue);
+	}
+}
@@ -15,16 +15,30 @@
  */
 package org.springframework.data.mapping.model;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.support.IsNewStrategy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * An {@link IsNewStrategy} to use a {@link PersistentEntity}'s version property followed by it
+ * <p>
+ * The decision is prepared once per entity: if the version or identifier value can be read from its field directly,
+ * the field is read through a {@link MethodHandle} and primitive values are compared without boxing. Otherwise the
+ * value is obtained through the entity's {@link org.springframework.data.mapping.PersistentPropertyAccessor} or
+ * {@link org.springframework.data.mapping.IdentifierAccessor}.
  *
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -33,8 +47,11 @@ import org.springframework.util.ClassUtils;
  */
 class PersistentEntityIsNewStrategy implements IsNewStrategy {
 
-	private final Function<Object, Object> valueLookup;
-	private final @Nullable Class<?> valueType;
+	private static final MethodType LONG_GETTER = MethodType.methodType(long.class, Object.class);
+	private static final MethodType DOUBLE_GETTER = MethodType.methodType(double.class, Object.class);
+	private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+	private final Predicate<Object> decision;
 
 	/**
 	 * Creates a new {@link PersistentEntityIsNewStrategy} for the given entity.
@@ -45,24 +62,30 @@ class PersistentEntityIsNewStrategy implements IsNewStrategy {
 
 		Assert.notNull(entity, "PersistentEntity must not be null!");
 
-		this.valueLookup = entity.hasVersionProperty() && !idOnly //
-				? source -> entity.getPropertyAccessor(source).getProperty(entity.getRequiredVersionProperty())
-				: source -> entity.getIdentifierAccessor(source).getIdentifier();
+		boolean useVersion = entity.hasVersionProperty() && !idOnly;
 
-		this.valueType = entity.hasVersionProperty() && !idOnly //
-				? entity.getRequiredVersionProperty().getType() //
-				: entity.hasIdProperty() ? entity.getRequiredIdProperty().getType() : null;
+		PersistentProperty<?> property = useVersion //
+				? entity.getRequiredVersionProperty() //
+				: entity.getIdProperty();
 
-		Class<?> type = valueType;
+		Class<?> valueType = property != null ? property.getType() : null;
 
-		if (type != null && type.isPrimitive()) {
+		if (valueType != null && valueType.isPrimitive()) {
 
-			if (!ClassUtils.isAssignable(Number.class, type)) {
+			if (!ClassUtils.isAssignable(Number.class, valueType)) {
 
 				throw new IllegalArgumentException(String
 						.format("Only numeric primitives are supported as identifier / version field types! Got: %s.", valueType));
 			}
 		}
+
+		MethodHandle getter = property != null //
+				? getFieldGetter(entity, property, useVersion ? "getPropertyAccessor" : "getIdentifierAccessor") //
+				: null;
+
+		this.decision = getter != null //
+				? createFieldDecision(getter, property.getType()) //
+				: createAccessorDecision(entity, useVersion, valueType);
 	}
 
 	/**
@@ -88,22 +111,120 @@ class PersistentEntityIsNewStrategy implements IsNewStrategy {
 
 	@Override
 	public boolean isNew(Object entity) {
+		return decision.test(entity);
+	}
+
+	private static Predicate<Object> createFieldDecision(MethodHandle getter, Class<?> type) {
 
-		Object value = valueLookup.apply(entity);
+		if (type == double.class || type == float.class) {
 
-		if (value == null) {
-			return true;
+			MethodHandle handle = getter.asType(DOUBLE_GETTER);
+
+			return source -> (long) invokeDouble(handle, source) == 0;
 		}
 
-		if (valueType != null && !valueType.isPrimitive()) {
-			return false;
+		if (type.isPrimitive()) {
+
+			MethodHandle handle = getter.asType(LONG_GETTER);
+
+			return source -> invokeLong(handle, source) == 0;
 		}
 
-		if (value instanceof Number) {
-			return ((Number) value).longValue() == 0;
+		MethodHandle handle = getter.asType(OBJECT_GETTER);
+
+		return source -> invokeObject(handle, source) == null;
+	}
+
+	private static Predicate<Object> createAccessorDecision(PersistentEntity<?, ?> entity, boolean useVersion,
+			@Nullable Class<?> valueType) {
+
+		Function<Object, Object> valueLookup = useVersion //
+				? source -> entity.getPropertyAccessor(source).getProperty(entity.getRequiredVersionProperty())
+				: source -> entity.getIdentifierAccessor(source).getIdentifier();
+
+		return source -> {
+
+			Object value = valueLookup.apply(source);
+
+			if (value == null) {
+				return true;
+			}
+
+			if (valueType != null && !valueType.isPrimitive()) {
+				return false;
+			}
+
+			if (value instanceof Number) {
+				return ((Number) value).longValue() == 0;
+			}
+
+			throw new IllegalArgumentException(
+					String.format("Could not determine whether %s is new! Unsupported identifier or version property!", source));
+		};
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} reading the field backing the given property if the value can be read from the
+	 * field directly, i.e. the property uses field access and the entity does not customize how values are accessed by
+	 * overriding the given accessor method, e.g. to unwrap proxies.
+	 *
+	 * @return the getter or {@literal null} if the value has to be obtained through the entity's accessors.
+	 */
+	@Nullable
+	private static MethodHandle getFieldGetter(PersistentEntity<?, ?> entity, PersistentProperty<?> property,
+			String accessorMethod) {
+
+		Field field = property.getField();
+
+		if (field == null || property.usePropertyAccess() || Persistable.class.isAssignableFrom(entity.getType())) {
+			return null;
 		}
 
-		throw new IllegalArgumentException(
-				String.format("Could not determine whether %s is new! Unsupported identifier or version property!", entity));
+		Method method = ReflectionUtils.findMethod(entity.getClass(), accessorMethod, Object.class);
+
+		if (method == null || !BasicPersistentEntity.class.equals(method.getDeclaringClass())) {
+			return null;
+		}
+
+		try {
+
+			ReflectionUtils.makeAccessible(field);
+
+			return MethodHandles.lookup().unreflectGetter(field);
+
+		} catch (IllegalAccessException | RuntimeException o_O) {
+			return null;
+		}
+	}
+
+	private static long invokeLong(MethodHandle handle, Object source) {
+
+		try {
+			return (long) handle.invokeExact(source);
+		} catch (Throwable o_O) {
+			ReflectionUtils.rethrowRuntimeException(o_O);
+			return 0;
+		}
+	}
+
+	private static double invokeDouble(MethodHandle handle, Object source) {
+
+		try {
+			return (double) handle.invokeExact(source);
+		} catch (Throwable o_O) {
+			ReflectionUtils.rethrowRuntimeException(o_O);
+			return 0;
+		}
+	}
+
+	@Nullable
+	private static Object invokeObject(MethodHandle handle, Object source) {
+
+		try {
+			return (Object) handle.invokeExact(source);
+		} catch (Throwable o_O) {
+			ReflectionUtils.rethrowRuntimeException(o_O);
+			return null;
+		}
 	}
 }
@@ -31,6 +31,8 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ObjectUtils;
 
 /**
  * This class is introspects the returned type in the context of a domain type for all reachable properties (w/o cycles)
@@ -43,16 +45,22 @@ import org.springframework.util.Assert;
  */
 public class EntityProjectionIntrospector {
 
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
 	private final ProjectionFactory projectionFactory;
 	private final ProjectionPredicate projectionPredicate;
 	private final MappingContext<?, ?> mappingContext;
+	private final @Nullable ConcurrentLruCache<CacheKey, EntityProjection<?, ?>> cache;
 
 	private EntityProjectionIntrospector(ProjectionFactory projectionFactory, ProjectionPredicate projectionPredicate,
-			MappingContext<?, ?> mappingContext) {
+			MappingContext<?, ?> mappingContext, int cacheLimit) {
 
 		this.projectionFactory = projectionFactory;
 		this.projectionPredicate = projectionPredicate;
 		this.mappingContext = mappingContext;
+		this.cache = cacheLimit > 0
+				? new ConcurrentLruCache<>(cacheLimit, key -> doIntrospect(key.getMappedType(), key.getDomainType()))
+				: null;
 	}
 
 	/**
@@ -71,7 +79,31 @@ public class EntityProjectionIntrospector {
 		Assert.notNull(projectionPredicate, "ProjectionPredicate must not be null");
 		Assert.notNull(mappingContext, "MappingContext must not be null");
 
-		return new EntityProjectionIntrospector(projectionFactory, projectionPredicate, mappingContext);
+		return create(projectionFactory, projectionPredicate, mappingContext, DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@link EntityProjectionIntrospector} given {@link ProjectionFactory}, {@link ProjectionPredicate},
+	 * {@link MappingContext} and the maximum number of introspection results to retain. Introspection results are
+	 * retained per {@link EntityProjectionIntrospector} instance and therefore scoped to its {@link ProjectionPredicate}.
+	 * Least recently used results are evicted once the cache limit is exceeded.
+	 *
+	 * @param projectionFactory must not be {@literal null}.
+	 * @param projectionPredicate must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param cacheLimit maximum number of cached introspection results, {@literal 0} to disable caching.
+	 * @return a new {@link EntityProjectionIntrospector} instance.
+	 * @since 3.0
+	 */
+	public static EntityProjectionIntrospector create(ProjectionFactory projectionFactory,
+			ProjectionPredicate projectionPredicate, MappingContext<?, ?> mappingContext, int cacheLimit) {
+
+		Assert.notNull(projectionFactory, "ProjectionFactory must not be null");
+		Assert.notNull(projectionPredicate, "ProjectionPredicate must not be null");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must not be negative");
+
+		return new EntityProjectionIntrospector(projectionFactory, projectionPredicate, mappingContext, cacheLimit);
 	}
 
 	/**
@@ -89,8 +121,31 @@ public class EntityProjectionIntrospector {
 	 * @return the introspection result.
 	 * @see EntityProjection.ContainerPropertyProjection
 	 */
+	@SuppressWarnings("unchecked")
 	public <M, D> EntityProjection<M, D> introspect(Class<M> mappedType, Class<D> domainType) {
 
+		Assert.notNull(mappedType, "Mapped type must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return cache != null ? (EntityProjection<M, D>) cache.get(new CacheKey(mappedType, domainType))
+				: doIntrospect(mappedType, domainType);
+	}
+
+	/**
+	 * Introspect the given {@link Class mapped type} in the context of a {@link Class domain type} upfront so that
+	 * subsequent calls to {@link #introspect(Class, Class)} are served from the cache. Typically used during repository
+	 * bootstrap with the types declared by query methods.
+	 *
+	 * @param mappedType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public void precompute(Class<?> mappedType, Class<?> domainType) {
+		introspect(mappedType, domainType);
+	}
+
+	private <M, D> EntityProjection<M, D> doIntrospect(Class<M> mappedType, Class<D> domainType) {
+
 		ClassTypeInformation<M> returnedTypeInformation = ClassTypeInformation.from(mappedType);
 		ClassTypeInformation<D> domainTypeInformation = ClassTypeInformation.from(domainType);
 
@@ -260,6 +315,59 @@ public class EntityProjectionIntrospector {
 
 	}
 
+	/**
+	 * Cache key for introspection results. The {@link ProjectionPredicate} is not part of the key as it is fixed for each
+	 * {@link EntityProjectionIntrospector} instance.
+	 */
+	private static final class CacheKey {
+
+		private final Class<?> mappedType;
+		private final Class<?> domainType;
+		private final int hashCode;
+
+		CacheKey(Class<?> mappedType, Class<?> domainType) {
+
+			this.mappedType = mappedType;
+			this.domainType = domainType;
+			this.hashCode = 31 * mappedType.hashCode() + domainType.hashCode();
+		}
+
+		@SuppressWarnings("unchecked")
+		<M> Class<M> getMappedType() {
+			return (Class<M>) mappedType;
+		}
+
+		@SuppressWarnings("unchecked")
+		<D> Class<D> getDomainType() {
+			return (Class<D>) domainType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return ObjectUtils.nullSafeEquals(mappedType, that.mappedType)
+					&& ObjectUtils.nullSafeEquals(domainType, that.domainType);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "EntityProjectionIntrospector.CacheKey(mappedType=" + mappedType + ", domainType=" + domainType + ")";
+		}
+	}
+
 	static class CycleGuard {
 		Set<PersistentProperty<?>> seen = new LinkedHashSet<>();
 
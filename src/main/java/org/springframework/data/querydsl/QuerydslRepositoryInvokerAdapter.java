@@ -107,4 +107,9 @@ public class QuerydslRepositoryInvokerAdapter implements RepositoryInvoker {
 	public <T> T invokeSave(T object) {
 		return delegate.invokeSave(object);
 	}
+
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> objects) {
+		return delegate.invokeSaveAll(objects);
+	}
 }
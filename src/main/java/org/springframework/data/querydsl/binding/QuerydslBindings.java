@@ -73,6 +73,7 @@ public class QuerydslBindings {
 	private final Set<String> aliases;
 
 	private boolean excludeUnlistedProperties;
+	private int modifications;
 
 	/**
 	 * Creates a new {@link QuerydslBindings} instance.
@@ -131,6 +132,8 @@ public class QuerydslBindings {
 		for (Path<?> path : paths) {
 			this.denyList.add(toDotPath(Optional.of(path)));
 		}
+
+		this.modifications++;
 	}
 
 	/**
@@ -145,6 +148,8 @@ public class QuerydslBindings {
 		for (Path<?> path : paths) {
 			this.allowList.add(toDotPath(Optional.of(path)));
 		}
+
+		this.modifications++;
 	}
 
 	/**
@@ -159,9 +164,20 @@ public class QuerydslBindings {
 	public final QuerydslBindings excludeUnlistedProperties(boolean excludeUnlistedProperties) {
 
 		this.excludeUnlistedProperties = excludeUnlistedProperties;
+		this.modifications++;
 		return this;
 	}
 
+	/**
+	 * Returns the number of modifications applied to the bindings so far. Used to detect whether state derived from the
+	 * bindings, such as a compiled binding plan, is still up to date.
+	 *
+	 * @return
+	 */
+	int getModificationCount() {
+		return modifications;
+	}
+
 	/**
 	 * Returns whether the given path is available on the given type.
 	 *
@@ -416,6 +432,7 @@ public class QuerydslBindings {
 
 		protected void registerBinding(PathAndBinding<P, T> binding) {
 			QuerydslBindings.this.pathSpecs.put(createKey(binding.getPath()), binding);
+			QuerydslBindings.this.modifications++;
 		}
 	}
 
@@ -487,6 +504,7 @@ public class QuerydslBindings {
 				QuerydslBindings.this.pathSpecs.put(alias, binding);
 				QuerydslBindings.this.aliases.add(alias);
 				QuerydslBindings.this.denyList.add(dotPath);
+				QuerydslBindings.this.modifications++;
 			}
 		}
 	}
@@ -531,6 +549,7 @@ public class QuerydslBindings {
 			Assert.notNull(binding, "Binding must not be null!");
 
 			QuerydslBindings.this.typeSpecs.put(type, PathAndBinding.<T, P> withoutPath().with(binding));
+			QuerydslBindings.this.modifications++;
 		}
 	}
 
@@ -30,10 +30,13 @@ import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.querydsl.EntityPathResolver;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
 
@@ -54,6 +57,7 @@ public class QuerydslPredicateBuilder {
 	private final ConversionService conversionService;
 	private final MultiValueBinding<Path<? extends Object>, Object> defaultBinding;
 	private final Map<PathInformation, Path<?>> paths;
+	private final Map<QuerydslBindings, BindingPlan> plans;
 	private final EntityPathResolver resolver;
 
 	/**
@@ -70,6 +74,7 @@ public class QuerydslPredicateBuilder {
 		this.defaultBinding = new QuerydslDefaultBinding();
 		this.conversionService = conversionService;
 		this.paths = new ConcurrentHashMap<>();
+		this.plans = new ConcurrentReferenceHashMap<>();
 		this.resolver = resolver;
 	}
 
@@ -92,26 +97,22 @@ public class QuerydslPredicateBuilder {
 			return getPredicate(builder);
 		}
 
+		BindingPlan plan = getBindingPlan(type, bindings);
+
 		for (var entry : values.entrySet()) {
 
 			if (isSingleElementCollectionWithEmptyItem(entry.getValue())) {
 				continue;
 			}
 
-			String path = entry.getKey();
-
-			if (!bindings.isPathAvailable(path, type)) {
-				continue;
-			}
-
-			PathInformation propertyPath = bindings.getPropertyPath(path, type);
+			BoundPath boundPath = plan.getBoundPath(entry.getKey());
 
-			if (propertyPath == null) {
+			if (boundPath == null) {
 				continue;
 			}
 
-			Collection<Object> value = convertToPropertyPathSpecificType(entry.getValue(), propertyPath);
-			Optional<Predicate> predicate = invokeBinding(propertyPath, bindings, value);
+			Collection<Object> value = convertToPropertyPathSpecificType(entry.getValue(), boundPath);
+			Optional<Predicate> predicate = boundPath.bind(value);
 
 			predicate.ifPresent(builder::and);
 		}
@@ -119,6 +120,26 @@ public class QuerydslPredicateBuilder {
 		return getPredicate(builder);
 	}
 
+	/**
+	 * Returns whether the request parameter with the given name can be bound to a {@link Path} of the given type
+	 * through the given {@link QuerydslBindings}. Values of parameters that cannot be bound are ignored when creating
+	 * the {@link Predicate}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param bindings must not be {@literal null}.
+	 * @return
+	 * @since 3.0
+	 */
+	public boolean isBindable(TypeInformation<?> type, String name, QuerydslBindings bindings) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(bindings, "Bindings must not be null!");
+
+		return getBindingPlan(type, bindings).getBoundPath(name) != null;
+	}
+
 	/**
 	 * Returns whether the given {@link Predicate} represents an empty predicate instance.
 	 *
@@ -132,19 +153,26 @@ public class QuerydslPredicateBuilder {
 	}
 
 	/**
-	 * Invokes the binding of the given values, for the given {@link PropertyPath} and {@link QuerydslBindings}.
+	 * Returns the {@link BindingPlan} for the given {@link TypeInformation} and {@link QuerydslBindings}. Plans are
+	 * cached per {@link QuerydslBindings} instance and recompiled if the bindings were modified or are used for a
+	 * different type.
 	 *
-	 * @param dotPath must not be {@literal null}.
+	 * @param type must not be {@literal null}.
 	 * @param bindings must not be {@literal null}.
-	 * @param values must not be {@literal null}.
 	 * @return
 	 */
-	private Optional<Predicate> invokeBinding(PathInformation dotPath, QuerydslBindings bindings,
-			Collection<Object> values) {
+	private BindingPlan getBindingPlan(TypeInformation<?> type, QuerydslBindings bindings) {
 
-		Path<?> path = getPath(dotPath, bindings);
+		BindingPlan plan = plans.get(bindings);
 
-		return bindings.getBindingForPath(dotPath).orElse(defaultBinding).bind(path, values);
+		if (plan != null && plan.isValidFor(type, bindings)) {
+			return plan;
+		}
+
+		plan = new BindingPlan(type, bindings);
+		plans.put(bindings, plan);
+
+		return plan;
 	}
 
 	/**
@@ -172,9 +200,7 @@ public class QuerydslPredicateBuilder {
 	 * @param path must not be {@literal null}.
 	 * @return
 	 */
-	private Collection<Object> convertToPropertyPathSpecificType(List<?> source, PathInformation path) {
-
-		Class<?> targetType = path.getLeafType();
+	private Collection<Object> convertToPropertyPathSpecificType(List<?> source, BoundPath path) {
 
 		if (source.isEmpty() || isSingleElementCollectionWithEmptyItem(source)) {
 			return Collections.emptyList();
@@ -183,21 +209,23 @@ public class QuerydslPredicateBuilder {
 		Collection<Object> target = new ArrayList<>(source.size());
 
 		for (Object value : source) {
-			target.add(getValue(path, targetType, value));
+			target.add(getValue(path, value));
 		}
 
 		return target;
 	}
 
 	@Nullable
-	private Object getValue(PathInformation path, Class<?> targetType, Object value) {
+	private Object getValue(BoundPath path, Object value) {
+
+		Class<?> targetType = path.getLeafType();
 
 		if (ClassUtils.isAssignableValue(targetType, value)) {
 			return value;
 		}
 
 		if (conversionService.canConvert(value.getClass(), targetType)) {
-			return conversionService.convert(value, TypeDescriptor.forObject(value), getTargetTypeDescriptor(path));
+			return conversionService.convert(value, TypeDescriptor.forObject(value), path.getTargetTypeDescriptor());
 		}
 
 		return value;
@@ -252,4 +280,102 @@ public class QuerydslPredicateBuilder {
 		Predicate predicate = builder.getValue();
 		return predicate == null ? new BooleanBuilder() : predicate;
 	}
+
+	/**
+	 * Immutable binding plan compiled from {@link QuerydslBindings} for a given root type. Resolves request parameter
+	 * names to {@link BoundPath}s once and caches the outcome, including parameters that are not available for binding
+	 * so that these are rejected by a plain lookup on subsequent requests.
+	 *
+	 * @since 3.0
+	 */
+	private class BindingPlan {
+
+		private static final int CACHE_LIMIT = 256;
+
+		private final TypeInformation<?> type;
+		private final QuerydslBindings bindings;
+		private final int modifications;
+		private final ConcurrentLruCache<String, Optional<BoundPath>> boundPaths;
+
+		BindingPlan(TypeInformation<?> type, QuerydslBindings bindings) {
+
+			this.type = type;
+			this.bindings = bindings;
+			this.modifications = bindings.getModificationCount();
+			this.boundPaths = new ConcurrentLruCache<>(CACHE_LIMIT, this::resolve);
+		}
+
+		/**
+		 * Returns whether the plan can be used for the given {@link TypeInformation} and {@link QuerydslBindings}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param bindings must not be {@literal null}.
+		 * @return
+		 */
+		boolean isValidFor(TypeInformation<?> type, QuerydslBindings bindings) {
+			return this.bindings == bindings && this.modifications == bindings.getModificationCount()
+					&& this.type.equals(type);
+		}
+
+		/**
+		 * Returns the {@link BoundPath} for the given request parameter name or {@literal null} if the parameter cannot be
+		 * bound.
+		 *
+		 * @param name must not be {@literal null}.
+		 * @return
+		 */
+		@Nullable
+		BoundPath getBoundPath(String name) {
+			return boundPaths.get(name).orElse(null);
+		}
+
+		private Optional<BoundPath> resolve(String name) {
+
+			PathInformation propertyPath = bindings.getPropertyPath(name, type);
+
+			if (propertyPath == null) {
+				return Optional.empty();
+			}
+
+			Path<?> path = getPath(propertyPath, bindings);
+			MultiValueBinding<Path<? extends Object>, Object> binding = bindings
+					.<Path<? extends Object>, Object> getBindingForPath(propertyPath).orElse(defaultBinding);
+
+			return Optional.of(new BoundPath(propertyPath, path, binding));
+		}
+	}
+
+	/**
+	 * A {@link PathInformation} along with its reified {@link Path}, the target {@link TypeDescriptor} and the
+	 * {@link MultiValueBinding} to apply.
+	 *
+	 * @since 3.0
+	 */
+	private static class BoundPath {
+
+		private final Path<?> path;
+		private final Class<?> leafType;
+		private final Lazy<TypeDescriptor> targetTypeDescriptor;
+		private final MultiValueBinding<Path<? extends Object>, Object> binding;
+
+		BoundPath(PathInformation propertyPath, Path<?> path, MultiValueBinding<Path<? extends Object>, Object> binding) {
+
+			this.path = path;
+			this.leafType = propertyPath.getLeafType();
+			this.targetTypeDescriptor = Lazy.of(() -> QuerydslPredicateBuilder.getTargetTypeDescriptor(propertyPath));
+			this.binding = binding;
+		}
+
+		Class<?> getLeafType() {
+			return leafType;
+		}
+
+		TypeDescriptor getTargetTypeDescriptor() {
+			return targetTypeDescriptor.get();
+		}
+
+		Optional<Predicate> bind(Collection<Object> values) {
+			return binding.bind(path, values);
+		}
+	}
 }
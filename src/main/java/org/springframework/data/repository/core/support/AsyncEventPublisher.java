@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationEventPublisher} handing events to a delegate {@link ApplicationEventPublisher} asynchronously.
+ * Events are buffered in a bounded queue and published in the order they were handed in by a single drain task
+ * submitted to the given {@link Executor}. Callers block if the queue is full, i.e. publication applies back pressure
+ * instead of buffering an unbounded number of events. Events published by listeners through the same publisher are
+ * queued as well unless the queue is full. In that case they are handed to the delegate right away, as the listener
+ * would otherwise wait for itself to drain the queue.
+ * <p>
+ * Listeners are invoked outside of the thread and the transaction publishing the event, so
+ * {@link org.springframework.transaction.event.TransactionalEventListener transactional event listeners} will not see
+ * the events. Failures of listeners are logged and do not propagate to the publishing code.
+ *
+ * @since 3.0
+ * @see RepositoryFactoryBeanSupport#setDomainEventPublisher(ApplicationEventPublisher)
+ */
+public class AsyncEventPublisher implements ApplicationEventPublisher {
+
+	private static final Log logger = LogFactory.getLog(AsyncEventPublisher.class);
+
+	private final ApplicationEventPublisher delegate;
+	private final Executor executor;
+	private final BlockingQueue<Object> events;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile @Nullable Thread drainer;
+
+	/**
+	 * Creates a new {@link AsyncEventPublisher} buffering up to {@code capacity} events.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param capacity must be greater than zero.
+	 */
+	public AsyncEventPublisher(ApplicationEventPublisher delegate, Executor executor, int capacity) {
+
+		Assert.notNull(delegate, "Delegate ApplicationEventPublisher must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.delegate = delegate;
+		this.executor = executor;
+		this.events = new ArrayBlockingQueue<>(capacity);
+	}
+
+	@Override
+	public void publishEvent(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		// published by a listener, must not block the thread draining the queue
+		if (Thread.currentThread() == drainer) {
+
+			if (!events.offer(event)) {
+				publish(event);
+			}
+
+			return;
+		}
+
+		try {
+			events.put(event);
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while publishing %s!", event), o_O);
+		}
+
+		scheduleDrain();
+	}
+
+	/**
+	 * Returns the number of events handed in but not published yet.
+	 *
+	 * @return
+	 */
+	public int getPendingEvents() {
+		return events.size();
+	}
+
+	private void scheduleDrain() {
+
+		if (!draining.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException o_O) {
+
+			// publish on the calling thread rather than dropping events
+			drain();
+		}
+	}
+
+	private void drain() {
+
+		drainer = Thread.currentThread();
+
+		try {
+
+			Object event;
+
+			while ((event = events.poll()) != null) {
+				publish(event);
+			}
+
+		} finally {
+
+			drainer = null;
+			draining.set(false);
+		}
+
+		// events handed in after the last poll but before resetting the flag
+		if (!events.isEmpty()) {
+			scheduleDrain();
+		}
+	}
+
+	private void publish(Object event) {
+
+		try {
+			delegate.publishEvent(event);
+		} catch (RuntimeException o_O) {
+			logger.warn(String.format("Failed to publish event %s", event), o_O);
+		}
+	}
+}
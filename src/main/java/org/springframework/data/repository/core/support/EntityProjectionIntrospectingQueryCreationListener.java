@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import org.springframework.data.projection.EntityProjectionIntrospector;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryCreationListener} precomputing the {@link org.springframework.data.projection.EntityProjection} for
+ * each query method returning a projection so that query execution can use cached introspection results right away.
+ * Store modules can register this listener through
+ * {@link RepositoryFactorySupport#addQueryCreationListener(QueryCreationListener)}.
+ *
+ * @since 3.0
+ * @see EntityProjectionIntrospector#precompute(Class, Class)
+ */
+public class EntityProjectionIntrospectingQueryCreationListener implements QueryCreationListener<RepositoryQuery> {
+
+	private final EntityProjectionIntrospector introspector;
+
+	/**
+	 * Creates a new {@link EntityProjectionIntrospectingQueryCreationListener} for the given
+	 * {@link EntityProjectionIntrospector}.
+	 *
+	 * @param introspector must not be {@literal null}.
+	 */
+	public EntityProjectionIntrospectingQueryCreationListener(EntityProjectionIntrospector introspector) {
+
+		Assert.notNull(introspector, "EntityProjectionIntrospector must not be null");
+
+		this.introspector = introspector;
+	}
+
+	@Override
+	public void onCreation(RepositoryQuery query) {
+
+		ReturnedType returnedType = query.getQueryMethod().getResultProcessor().getReturnedType();
+
+		if (returnedType.isProjecting()) {
+			introspector.precompute(returnedType.getReturnedType(), returnedType.getDomainType());
+		}
+	}
+}
@@ -16,9 +16,14 @@
 package org.springframework.data.repository.core.support;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -27,6 +32,7 @@ import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEventBatch;
 import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -42,6 +48,9 @@ import org.springframework.util.ReflectionUtils;
  * exposed via a method annotated with {@link DomainEvents}. If no such method can be detected on the aggregate root, no
  * interceptor is added. Additionally, the aggregate root can expose a method annotated with
  * {@link AfterDomainEventPublication}. If present, the method will be invoked after all events have been published.
+ * <p>
+ * Events can be published in batches, i.e. the events of all aggregates handed to a single repository method invocation
+ * are published as one {@link DomainEventBatch}. To publish events asynchronously, use an {@link AsyncEventPublisher}.
  *
  * @author Oliver Gierke
  * @author Christoph Strobl
@@ -53,9 +62,26 @@ import org.springframework.util.ReflectionUtils;
 public class EventPublishingRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
 
 	private final ApplicationEventPublisher publisher;
+	private final boolean batchPublication;
 
 	public EventPublishingRepositoryProxyPostProcessor(ApplicationEventPublisher publisher) {
+		this(publisher, false);
+	}
+
+	/**
+	 * Creates a new {@link EventPublishingRepositoryProxyPostProcessor} for the given {@link ApplicationEventPublisher}.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @param batchPublication whether to publish the events of a repository method invocation as one
+	 *          {@link DomainEventBatch}.
+	 * @since 3.0
+	 */
+	public EventPublishingRepositoryProxyPostProcessor(ApplicationEventPublisher publisher, boolean batchPublication) {
+
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+
 		this.publisher = publisher;
+		this.batchPublication = batchPublication;
 	}
 
 	@Override
@@ -67,7 +93,7 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 			return;
 		}
 
-		factory.addAdvice(new EventPublishingMethodInterceptor(method, publisher));
+		factory.addAdvice(new EventPublishingMethodInterceptor(method, publisher, batchPublication));
 	}
 
 	/**
@@ -81,16 +107,34 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 
 		private final EventPublishingMethod eventMethod;
 		private final ApplicationEventPublisher publisher;
+		private final boolean batchPublication;
+		private final Map<Method, Boolean> publishingMethods = new ConcurrentReferenceHashMap<>(16);
 
-		private EventPublishingMethodInterceptor(EventPublishingMethod eventMethod, ApplicationEventPublisher publisher) {
+		private EventPublishingMethodInterceptor(EventPublishingMethod eventMethod, ApplicationEventPublisher publisher,
+				boolean batchPublication) {
 
 			this.eventMethod = eventMethod;
 			this.publisher = publisher;
+			this.batchPublication = batchPublication;
 		}
 
 		public static EventPublishingMethodInterceptor of(EventPublishingMethod eventMethod,
 				ApplicationEventPublisher publisher) {
-			return new EventPublishingMethodInterceptor(eventMethod, publisher);
+			return new EventPublishingMethodInterceptor(eventMethod, publisher, false);
+		}
+
+		/**
+		 * Creates a new {@link EventPublishingMethodInterceptor} publishing the events of a repository method invocation
+		 * as one {@link DomainEventBatch}.
+		 *
+		 * @param eventMethod must not be {@literal null}.
+		 * @param publisher must not be {@literal null}.
+		 * @return
+		 * @since 3.0
+		 */
+		public static EventPublishingMethodInterceptor batching(EventPublishingMethod eventMethod,
+				ApplicationEventPublisher publisher) {
+			return new EventPublishingMethodInterceptor(eventMethod, publisher, true);
 		}
 
 		@Override
@@ -99,13 +143,18 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 
 			Object result = invocation.proceed();
 
-			if (!isEventPublishingMethod(invocation.getMethod())) {
+			if (!publishingMethods.computeIfAbsent(invocation.getMethod(),
+					EventPublishingRepositoryProxyPostProcessor::isEventPublishingMethod)) {
 				return result;
 			}
 
 			Object[] arguments = invocation.getArguments();
 
-			eventMethod.publishEventsFrom(arguments[0], publisher);
+			if (batchPublication) {
+				eventMethod.publishEventBatchFrom(arguments[0], publisher);
+			} else {
+				eventMethod.publishEventsFrom(arguments[0], publisher);
+			}
 
 			return result;
 		}
@@ -133,19 +182,22 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 	 */
 	static class EventPublishingMethod {
 
+		private static final MethodType PUBLISHING_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+		private static final MethodType CLEARING_METHOD_TYPE = MethodType.methodType(void.class, Object.class);
+
 		private static Map<Class<?>, EventPublishingMethod> cache = new ConcurrentReferenceHashMap<>();
 		private static @SuppressWarnings("null") EventPublishingMethod NONE = new EventPublishingMethod(Object.class, null,
 				null);
 
 		private final Class<?> type;
-		private final Method publishingMethod;
-		private final @Nullable Method clearingMethod;
+		private final MethodHandle publishingMethod;
+		private final @Nullable MethodHandle clearingMethod;
 
-		EventPublishingMethod(Class<?> type, Method publishingMethod, @Nullable Method clearingMethod) {
+		EventPublishingMethod(Class<?> type, @Nullable Method publishingMethod, @Nullable Method clearingMethod) {
 
 			this.type = type;
-			this.publishingMethod = publishingMethod;
-			this.clearingMethod = clearingMethod;
+			this.publishingMethod = publishingMethod == null ? null : toHandle(publishingMethod, PUBLISHING_METHOD_TYPE);
+			this.clearingMethod = clearingMethod == null ? null : toHandle(clearingMethod, CLEARING_METHOD_TYPE);
 		}
 
 		/**
@@ -192,14 +244,80 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 					continue;
 				}
 
-				for (Object event : asCollection(ReflectionUtils.invokeMethod(publishingMethod, aggregateRoot))) {
+				for (Object event : asCollection(getEvents(aggregateRoot))) {
 					publisher.publishEvent(event);
 				}
 
-				if (clearingMethod != null) {
-					ReflectionUtils.invokeMethod(clearingMethod, aggregateRoot);
+				clearEvents(aggregateRoot);
+			}
+		}
+
+		/**
+		 * Publishes the events of all aggregate roots in the given object as one {@link DomainEventBatch} using the given
+		 * {@link ApplicationEventPublisher}. Events are cleared after the batch has been published. No batch is published
+		 * if the aggregates do not expose any events.
+		 *
+		 * @param object can be {@literal null}.
+		 * @param publisher must not be {@literal null}.
+		 * @since 3.0
+		 */
+		public void publishEventBatchFrom(@Nullable Object object, ApplicationEventPublisher publisher) {
+
+			if (object == null) {
+				return;
+			}
+
+			Collection<Object> aggregateRoots = asCollection(object);
+			List<Object> events = new ArrayList<>();
+
+			for (Object aggregateRoot : aggregateRoots) {
+				if (type.isInstance(aggregateRoot)) {
+					events.addAll(asCollection(getEvents(aggregateRoot)));
 				}
 			}
+
+			if (!events.isEmpty()) {
+				publisher.publishEvent(new DomainEventBatch(events));
+			}
+
+			for (Object aggregateRoot : aggregateRoots) {
+				if (type.isInstance(aggregateRoot)) {
+					clearEvents(aggregateRoot);
+				}
+			}
+		}
+
+		@Nullable
+		private Object getEvents(Object aggregateRoot) {
+
+			try {
+				return (Object) publishingMethod.invokeExact(aggregateRoot);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+				return null;
+			}
+		}
+
+		private void clearEvents(Object aggregateRoot) {
+
+			if (clearingMethod == null) {
+				return;
+			}
+
+			try {
+				clearingMethod.invokeExact(aggregateRoot);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+			}
+		}
+
+		private static MethodHandle toHandle(Method method, MethodType type) {
+
+			try {
+				return MethodHandles.lookup().unreflect(method).asType(type);
+			} catch (IllegalAccessException o_O) {
+				throw new IllegalStateException(String.format("Cannot access event method %s!", method), o_O);
+			}
 		}
 
 		/**
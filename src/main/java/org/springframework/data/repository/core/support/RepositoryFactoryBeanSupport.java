@@ -43,6 +43,7 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -73,6 +74,8 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 	private Optional<QueryMethodEvaluationContextProvider> evaluationContextProvider = Optional.empty();
 	private List<RepositoryFactoryCustomizer> repositoryFactoryCustomizers = new ArrayList<>();
 	private ApplicationEventPublisher publisher;
+	private @Nullable ApplicationEventPublisher domainEventPublisher;
+	private boolean batchDomainEventPublication = false;
 
 	private Lazy<T> repository;
 
@@ -210,6 +213,29 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 		this.publisher = publisher;
 	}
 
+	/**
+	 * Configures the {@link ApplicationEventPublisher} to publish domain events exposed by aggregates with, e.g. an
+	 * {@link AsyncEventPublisher}. Defaults to the {@link ApplicationEventPublisher} the factory bean is set up with.
+	 *
+	 * @param domainEventPublisher can be {@literal null}.
+	 * @since 3.0
+	 * @see org.springframework.data.repository.outbox.OutboxEventPublisher
+	 */
+	public void setDomainEventPublisher(@Nullable ApplicationEventPublisher domainEventPublisher) {
+		this.domainEventPublisher = domainEventPublisher;
+	}
+
+	/**
+	 * Configures whether to publish the domain events of all aggregates handed to a repository method invocation as one
+	 * {@link org.springframework.data.domain.DomainEventBatch}. This defaults to {@literal false}.
+	 *
+	 * @param batchDomainEventPublication whether to publish domain events in batches.
+	 * @since 3.0
+	 */
+	public void setBatchDomainEventPublication(boolean batchDomainEventPublication) {
+		this.batchDomainEventPublication = batchDomainEventPublication;
+	}
+
 	@SuppressWarnings("unchecked")
 	public EntityInformation<S, ID> getEntityInformation() {
 		return (EntityInformation<S, ID>) factory.getEntityInformation(repositoryMetadata.getDomainType());
@@ -257,8 +283,11 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 		this.factory.setBeanClassLoader(classLoader);
 		this.factory.setBeanFactory(beanFactory);
 
-		if (publisher != null) {
-			this.factory.addRepositoryProxyPostProcessor(new EventPublishingRepositoryProxyPostProcessor(publisher));
+		ApplicationEventPublisher eventPublisher = domainEventPublisher != null ? domainEventPublisher : publisher;
+
+		if (eventPublisher != null) {
+			this.factory.addRepositoryProxyPostProcessor(
+					new EventPublishingRepositoryProxyPostProcessor(eventPublisher, batchDomainEventPublication));
 		}
 
 		repositoryBaseClass.ifPresent(this.factory::setRepositoryBaseClass);
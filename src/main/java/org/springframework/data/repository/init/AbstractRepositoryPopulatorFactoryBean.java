@@ -15,6 +15,8 @@
  */
 package org.springframework.data.repository.init;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.context.ApplicationContext;
@@ -39,6 +41,8 @@ public abstract class AbstractRepositoryPopulatorFactoryBean
 		implements ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
 
 	private Resource[] resources = new Resource[0];
+	private int batchSize = 1;
+	private @Nullable Executor executor;
 	private @Nullable RepositoryPopulator populator;
 	private @Nullable ApplicationContext context;
 
@@ -53,6 +57,30 @@ public abstract class AbstractRepositoryPopulatorFactoryBean
 		this.resources = resources.clone();
 	}
 
+	/**
+	 * Configures the number of objects of the same domain type to persist in a single batch.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.0
+	 * @see ResourceReaderRepositoryPopulator#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the {@link Executor} to populate the repositories from the configured {@link Resource}s in parallel.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 3.0
+	 * @see ResourceReaderRepositoryPopulator#setTaskExecutor(Executor)
+	 */
+	public void setTaskExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		this.context = applicationContext;
 	}
@@ -68,6 +96,8 @@ public abstract class AbstractRepositoryPopulatorFactoryBean
 
 		ResourceReaderRepositoryPopulator initializer = new ResourceReaderRepositoryPopulator(getResourceReader());
 		initializer.setResources(resources);
+		initializer.setBatchSize(batchSize);
+		initializer.setTaskExecutor(executor);
 
 		if (context != null) {
 			initializer.setApplicationEventPublisher(context);
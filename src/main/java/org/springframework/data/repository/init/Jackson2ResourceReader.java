@@ -22,24 +22,28 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * A {@link ResourceReader} using Jackson to read JSON into objects.
+ * A {@link ResourceReader} using Jackson to read JSON into objects. Implements {@link StreamingResourceReader} to read
+ * arrays element by element using Jackson's streaming API.
  *
  * @author Oliver Gierke
  * @author Christoph Strobl
  * @author Mark Paluch
  * @since 1.6
  */
-public class Jackson2ResourceReader implements ResourceReader {
+public class Jackson2ResourceReader implements StreamingResourceReader {
 
 	private static final String DEFAULT_TYPE_KEY = "_class";
 	private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
@@ -100,6 +104,33 @@ public class Jackson2ResourceReader implements ResourceReader {
 		return readSingle(node, classLoader);
 	}
 
+	@Override
+	public void readFrom(Resource resource, @Nullable ClassLoader classLoader, Consumer<Object> action)
+			throws Exception {
+
+		Assert.notNull(resource, "Resource must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		try (InputStream stream = resource.getInputStream(); JsonParser parser = mapper.createParser(stream)) {
+
+			JsonToken token = parser.nextToken();
+
+			if (token == null) {
+				return;
+			}
+
+			if (token != JsonToken.START_ARRAY) {
+				action.accept(readSingle(mapper.readTree(parser), classLoader));
+				return;
+			}
+
+			// only materialize a single element at a time
+			for (token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				action.accept(readSingle(mapper.readTree(parser), classLoader));
+			}
+		}
+	}
+
 	/**
 	 * Reads the given {@link JsonNode} into an instance of the type encoded in it using the configured type key.
 	 *
@@ -16,9 +16,19 @@
 package org.springframework.data.repository.init;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,6 +47,12 @@ import org.springframework.util.Assert;
 
 /**
  * A {@link RepositoryPopulator} using a {@link ResourceReader} to read objects from the configured {@link Resource}s.
+ * If the {@link ResourceReader} is a {@link StreamingResourceReader}, objects are persisted while reading the
+ * {@link Resource} instead of reading all of its objects into memory first.
+ * <p>
+ * Objects are persisted one by one by default. Configuring a {@link #setBatchSize(int) batch size} groups them by
+ * domain type into batches handed to the repository's {@code saveAll(…)} method. Configuring a
+ * {@link #setTaskExecutor(Executor) task executor} reads and persists the {@link Resource}s in parallel.
  *
  * @author Oliver Gierke
  * @author Christoph Strobl
@@ -49,9 +65,12 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 	private final ResourceReader reader;
 	private final @Nullable ClassLoader classLoader;
 	private final ResourcePatternResolver resolver;
+	private final LongAdder persisted = new LongAdder();
 
 	private @Nullable ApplicationEventPublisher publisher;
 	private Collection<Resource> resources = Collections.emptySet();
+	private int batchSize = 1;
+	private @Nullable Executor executor;
 
 	/**
 	 * Creates a new {@link ResourceReaderRepositoryPopulator} using the given {@link ResourceReader}.
@@ -99,38 +118,135 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 		this.resources = Arrays.asList(resources);
 	}
 
+	/**
+	 * Configures the number of objects of the same domain type to persist with a single {@code saveAll(…)} call.
+	 * Defaults to {@literal 1}, persisting each object individually through {@code save(…)}. Note, that batching
+	 * changes the order in which objects of different domain types are persisted.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.0
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the {@link Executor} to read and persist the configured {@link Resource}s in parallel. If not set,
+	 * {@link Resource}s are processed sequentially in the calling thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 3.0
+	 */
+	public void setTaskExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
 	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
 		this.publisher = publisher;
 	}
 
+	/**
+	 * Returns the number of objects persisted during the current or last population run. Can be polled to track the
+	 * progress of a population run in progress.
+	 *
+	 * @return
+	 * @since 3.0
+	 */
+	public long getPersistedCount() {
+		return persisted.sum();
+	}
+
 	public void populate(Repositories repositories) {
 
 		Assert.notNull(repositories, "Repositories must not be null!");
 
 		RepositoryInvokerFactory invokerFactory = new DefaultRepositoryInvokerFactory(repositories);
+		Executor executor = this.executor;
+
+		persisted.reset();
+
+		if (executor == null) {
+			for (Resource resource : resources) {
+				populate(resource, invokerFactory);
+			}
+		} else {
+			populateInParallel(invokerFactory, executor);
+		}
+
+		logger.info(String.format("Persisted %s objects from %s resource(s)", persisted.sum(), resources.size()));
+
+		if (publisher != null) {
+			publisher.publishEvent(new RepositoriesPopulatedEvent(this, repositories));
+		}
+	}
+
+	private void populateInParallel(RepositoryInvokerFactory invokerFactory, Executor executor) {
+
+		List<FutureTask<Void>> tasks = new ArrayList<>(resources.size());
 
 		for (Resource resource : resources) {
 
-			logger.info(String.format("Reading resource: %s", resource));
+			FutureTask<Void> task = new FutureTask<>(() -> populate(resource, invokerFactory), null);
+
+			tasks.add(task);
+			executor.execute(task);
+		}
+
+		try {
+			for (FutureTask<Void> task : tasks) {
+				task.get();
+			}
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while populating repositories!", o_O);
+
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (cause instanceof Error error) {
+				throw error;
+			}
+
+			throw new IllegalStateException(cause);
+
+		} finally {
+			tasks.forEach(it -> it.cancel(true));
+		}
+	}
+
+	private void populate(Resource resource, RepositoryInvokerFactory invokerFactory) {
+
+		logger.info(String.format("Reading resource: %s", resource));
+
+		Persister persister = new Persister(invokerFactory);
+
+		if (reader instanceof StreamingResourceReader streamingReader) {
+			readObjectsFrom(streamingReader, resource, persister);
+		} else {
 
 			Object result = readObjectFrom(resource);
 
 			if (result instanceof Collection) {
 				for (Object element : (Collection<?>) result) {
-					if (element != null) {
-						persist(element, invokerFactory);
-					} else {
-						logger.info("Skipping null element found in unmarshal result!");
-					}
+					persister.accept(element);
 				}
 			} else {
-				persist(result, invokerFactory);
+				persister.accept(result);
 			}
 		}
 
-		if (publisher != null) {
-			publisher.publishEvent(new RepositoriesPopulatedEvent(this, repositories));
-		}
+		persister.flush();
+
+		logger.info(String.format("Persisted %s objects read from resource: %s", persister.count, resource));
 	}
 
 	/**
@@ -148,15 +264,101 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 	}
 
 	/**
-	 * Persists the given {@link Object} using a suitable repository.
+	 * Reads the objects contained in the given resource handing them to the given {@link Consumer}.
 	 *
-	 * @param object must not be {@literal null}.
-	 * @param invokerFactory must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param resource must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 */
+	private void readObjectsFrom(StreamingResourceReader reader, Resource resource, Consumer<Object> action) {
+
+		try {
+			reader.readFrom(resource, classLoader, action);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Persists the objects handed to it using a suitable repository, either one by one or grouped into batches per
+	 * domain type.
 	 */
-	private void persist(Object object, RepositoryInvokerFactory invokerFactory) {
+	private class Persister implements Consumer<Object> {
+
+		private final RepositoryInvokerFactory invokerFactory;
+		private final Map<Class<?>, RepositoryInvoker> invokers = new HashMap<>();
+		private final Map<Class<?>, List<Object>> batches = new LinkedHashMap<>();
+		private long count;
+
+		Persister(RepositoryInvokerFactory invokerFactory) {
+			this.invokerFactory = invokerFactory;
+		}
+
+		@Override
+		public void accept(@Nullable Object object) {
+
+			if (object == null) {
+				logger.info("Skipping null element found in unmarshal result!");
+				return;
+			}
+
+			Class<?> type = object.getClass();
 
-		RepositoryInvoker invoker = invokerFactory.getInvokerFor(object.getClass());
-		logger.debug(String.format("Persisting %s using repository %s", object, invoker));
-		invoker.invokeSave(object);
+			if (batchSize == 1) {
+
+				RepositoryInvoker invoker = getInvoker(type);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Persisting %s using repository %s", object, invoker));
+				}
+
+				invoker.invokeSave(object);
+				persisted(1);
+
+				return;
+			}
+
+			List<Object> batch = batches.computeIfAbsent(type, it -> new ArrayList<>(batchSize));
+			batch.add(object);
+
+			if (batch.size() >= batchSize) {
+				persist(type, batch);
+				batches.remove(type);
+			}
+		}
+
+		/**
+		 * Persists all pending batches.
+		 */
+		void flush() {
+
+			batches.forEach(this::persist);
+			batches.clear();
+		}
+
+		private void persist(Class<?> type, List<Object> batch) {
+
+			RepositoryInvoker invoker = getInvoker(type);
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Persisting %s objects of type %s using repository %s", batch.size(),
+						type.getName(), invoker));
+			}
+
+			invoker.invokeSaveAll(batch);
+			persisted(batch.size());
+		}
+
+		private RepositoryInvoker getInvoker(Class<?> type) {
+			return invokers.computeIfAbsent(type, invokerFactory::getInvokerFor);
+		}
+
+		private void persisted(int objects) {
+
+			count += objects;
+			persisted.add(objects);
+		}
 	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.init;
+
+import java.util.function.Consumer;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link ResourceReader} that is able to hand out the objects read from a {@link Resource} one by one instead of
+ * materializing all of them upfront.
+ *
+ * @since 3.0
+ * @see ResourceReaderRepositoryPopulator
+ */
+public interface StreamingResourceReader extends ResourceReader {
+
+	/**
+	 * Reads the target objects from the given {@link Resource} handing each of them to the given {@link Consumer} as
+	 * soon as it has been read.
+	 *
+	 * @param resource must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @throws Exception
+	 */
+	void readFrom(Resource resource, @Nullable ClassLoader classLoader, Consumer<Object> action) throws Exception;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link OutboxStore} keeping records in memory. Records do not survive a restart of the application, so this store is
+ * meant for testing and for applications that only want to decouple listeners from the transaction publishing events.
+ *
+ * @since 3.0
+ */
+public class InMemoryOutboxStore implements OutboxStore {
+
+	private final Deque<OutboxRecord> records = new ArrayDeque<>();
+	private long sequence;
+
+	@Override
+	public void append(List<byte[]> payloads) {
+
+		Assert.notNull(payloads, "Payloads must not be null!");
+
+		synchronized (records) {
+			for (byte[] payload : payloads) {
+				records.add(new OutboxRecord(++sequence, payload));
+			}
+		}
+	}
+
+	@Override
+	public List<OutboxRecord> fetch(int max) {
+
+		Assert.isTrue(max > 0, "Maximum number of records must be greater than zero!");
+
+		synchronized (records) {
+
+			List<OutboxRecord> result = new ArrayList<>(Math.min(max, records.size()));
+
+			for (OutboxRecord record : records) {
+
+				if (result.size() == max) {
+					break;
+				}
+
+				result.add(record);
+			}
+
+			return result;
+		}
+	}
+
+	@Override
+	public void acknowledge(long sequence) {
+
+		synchronized (records) {
+			while (!records.isEmpty() && records.peekFirst().getSequence() <= sequence) {
+				records.pollFirst();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of records not acknowledged yet.
+	 *
+	 * @return
+	 */
+	public int size() {
+
+		synchronized (records) {
+			return records.size();
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.data.domain.DomainEventBatch;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ApplicationEventPublisher} serializing events into an {@link OutboxStore} instead of handing them to
+ * listeners. Events are serialized when published, so that serialization failures surface in the code publishing the
+ * event. If transaction synchronization is active, the events published within a transaction are collected and
+ * appended to the store in a single batch right before the transaction commits, i.e. still within the transaction.
+ * Events published within a transaction that is rolled back are discarded. Without transaction synchronization, events
+ * are appended immediately.
+ * <p>
+ * The {@link DomainEventBatch} published by repositories using batch publication is appended as the individual events
+ * it contains. Use an {@link OutboxRelay} to deliver the stored events to listeners.
+ *
+ * @since 3.0
+ * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setDomainEventPublisher(ApplicationEventPublisher)
+ */
+public class OutboxEventPublisher implements ApplicationEventPublisher {
+
+	private static final boolean TRANSACTIONS_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			OutboxEventPublisher.class.getClassLoader());
+
+	private final OutboxStore store;
+	private final Serializer<Object> serializer;
+
+	/**
+	 * Creates a new {@link OutboxEventPublisher} using Java serialization.
+	 *
+	 * @param store must not be {@literal null}.
+	 */
+	public OutboxEventPublisher(OutboxStore store) {
+		this(store, new DefaultSerializer());
+	}
+
+	/**
+	 * Creates a new {@link OutboxEventPublisher} using the given {@link Serializer}.
+	 *
+	 * @param store must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 */
+	public OutboxEventPublisher(OutboxStore store, Serializer<Object> serializer) {
+
+		Assert.notNull(store, "OutboxStore must not be null!");
+		Assert.notNull(serializer, "Serializer must not be null!");
+
+		this.store = store;
+		this.serializer = serializer;
+	}
+
+	@Override
+	public void publishEvent(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		List<byte[]> payloads = serialize(event);
+
+		if (payloads.isEmpty()) {
+			return;
+		}
+
+		if (TRANSACTIONS_PRESENT && PendingPayloads.appendOnCommit(this, payloads)) {
+			return;
+		}
+
+		store.append(payloads);
+	}
+
+	private List<byte[]> serialize(Object event) {
+
+		if (!(event instanceof DomainEventBatch batch)) {
+			return Collections.singletonList(serialize0(event));
+		}
+
+		List<byte[]> payloads = new ArrayList<>(batch.size());
+
+		for (Object element : batch) {
+			payloads.add(serialize0(element));
+		}
+
+		return payloads;
+	}
+
+	private byte[] serialize0(Object event) {
+
+		try {
+			return serializer.serializeToByteArray(event);
+		} catch (IOException o_O) {
+			throw new IllegalArgumentException(String.format("Could not serialize event %s!", event), o_O);
+		}
+	}
+
+	/**
+	 * {@link TransactionSynchronization} collecting the payloads published within a transaction and appending them to the
+	 * {@link OutboxStore} before the transaction commits. Unbinds itself while the transaction is suspended, so that
+	 * events published within e.g. a {@code REQUIRES_NEW} transaction are collected for that transaction.
+	 */
+	private static final class PendingPayloads implements TransactionSynchronization {
+
+		private final OutboxEventPublisher publisher;
+		private final List<byte[]> payloads = new ArrayList<>();
+		private boolean flushed;
+
+		private PendingPayloads(OutboxEventPublisher publisher) {
+			this.publisher = publisher;
+		}
+
+		/**
+		 * Registers the given payloads to be appended before the current transaction commits.
+		 *
+		 * @return whether transaction synchronization is active and the payloads have been registered.
+		 */
+		static boolean appendOnCommit(OutboxEventPublisher publisher, List<byte[]> payloads) {
+
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				return false;
+			}
+
+			PendingPayloads pending = (PendingPayloads) TransactionSynchronizationManager.getResource(publisher);
+
+			if (pending == null) {
+
+				pending = new PendingPayloads(publisher);
+
+				TransactionSynchronizationManager.bindResource(publisher, pending);
+				TransactionSynchronizationManager.registerSynchronization(pending);
+			}
+
+			// events published by synchronizations running after ours are appended right away
+			if (pending.flushed) {
+				return false;
+			}
+
+			pending.payloads.addAll(payloads);
+
+			return true;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(publisher);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(publisher, this);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+
+			flushed = true;
+
+			if (!payloads.isEmpty()) {
+				publisher.store.append(payloads);
+			}
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(publisher);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import org.springframework.util.Assert;
+
+/**
+ * A serialized event held in an {@link OutboxStore} along with the sequence number the store assigned on append.
+ *
+ * @since 3.0
+ */
+public final class OutboxRecord {
+
+	private final long sequence;
+	private final byte[] payload;
+
+	/**
+	 * Creates a new {@link OutboxRecord}.
+	 *
+	 * @param sequence the position of the record in the outbox.
+	 * @param payload must not be {@literal null}.
+	 */
+	public OutboxRecord(long sequence, byte[] payload) {
+
+		Assert.notNull(payload, "Payload must not be null!");
+
+		this.sequence = sequence;
+		this.payload = payload;
+	}
+
+	/**
+	 * Returns the position of the record in the outbox. Sequence numbers are increasing in append order.
+	 *
+	 * @return
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Returns the serialized event.
+	 *
+	 * @return
+	 */
+	public byte[] getPayload() {
+		return payload;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("OutboxRecord(%d, %d bytes)", sequence, payload.length);
+	}
+}
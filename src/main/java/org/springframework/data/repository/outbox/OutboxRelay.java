@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Relays the events stored in an {@link OutboxStore} to an {@link ApplicationEventPublisher} in batches. Records are
+ * acknowledged once they have been handed to the publisher, so events are delivered at least once: if a listener fails,
+ * the failing event and all events following it are delivered again on the next run. Records that cannot be
+ * deserialized are logged and skipped.
+ * <p>
+ * The relay does not manage threads itself. Schedule it, e.g. through
+ * {@link java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay(Runnable, long, long, java.util.concurrent.TimeUnit)},
+ * and make sure only one relay runs against a store at a time.
+ *
+ * @since 3.0
+ */
+public class OutboxRelay implements Runnable {
+
+	/**
+	 * The default number of records to fetch from the {@link OutboxStore} at once.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final Log logger = LogFactory.getLog(OutboxRelay.class);
+
+	private final OutboxStore store;
+	private final ApplicationEventPublisher publisher;
+	private final Deserializer<Object> deserializer;
+	private final int batchSize;
+
+	/**
+	 * Creates a new {@link OutboxRelay} using Java serialization and the {@link #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param store must not be {@literal null}.
+	 * @param publisher must not be {@literal null}.
+	 */
+	public OutboxRelay(OutboxStore store, ApplicationEventPublisher publisher) {
+		this(store, publisher, new DefaultDeserializer(), DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link OutboxRelay}.
+	 *
+	 * @param store must not be {@literal null}.
+	 * @param publisher must not be {@literal null}.
+	 * @param deserializer must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public OutboxRelay(OutboxStore store, ApplicationEventPublisher publisher, Deserializer<Object> deserializer,
+			int batchSize) {
+
+		Assert.notNull(store, "OutboxStore must not be null!");
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+		Assert.notNull(deserializer, "Deserializer must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.store = store;
+		this.publisher = publisher;
+		this.deserializer = deserializer;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Relays all pending events until the {@link OutboxStore} is drained or a listener fails.
+	 */
+	@Override
+	public void run() {
+
+		int relayed;
+
+		do {
+			relayed = relay();
+		} while (relayed == batchSize);
+	}
+
+	/**
+	 * Relays a single batch of pending events.
+	 *
+	 * @return the number of records acknowledged.
+	 */
+	public int relay() {
+
+		List<OutboxRecord> records = store.fetch(batchSize);
+		int relayed = 0;
+
+		try {
+
+			for (OutboxRecord record : records) {
+
+				Object event = deserialize(record);
+
+				if (event != null) {
+					publisher.publishEvent(event);
+				}
+
+				relayed++;
+			}
+
+		} catch (RuntimeException o_O) {
+			logger.warn(String.format("Failed to relay %s; Retrying on next run", records.get(relayed)), o_O);
+		}
+
+		if (relayed > 0) {
+			store.acknowledge(records.get(relayed - 1).getSequence());
+		}
+
+		return relayed;
+	}
+
+	@Nullable
+	private Object deserialize(OutboxRecord record) {
+
+		try {
+			return deserializer.deserializeFromByteArray(record.getPayload());
+		} catch (IOException | RuntimeException o_O) {
+
+			logger.warn(String.format("Skipping %s as it cannot be deserialized", record), o_O);
+			return null;
+		}
+	}
+}
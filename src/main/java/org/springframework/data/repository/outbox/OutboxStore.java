@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import java.util.List;
+
+/**
+ * SPI to store serialized events until they have been relayed to listeners. Implementations backed by a transactional
+ * store (e.g. a table next to the aggregates) append the events as part of the transaction persisting the aggregates,
+ * so events are neither lost nor published for rolled back changes.
+ *
+ * @since 3.0
+ * @see InMemoryOutboxStore
+ * @see OutboxEventPublisher
+ * @see OutboxRelay
+ */
+public interface OutboxStore {
+
+	/**
+	 * Appends the given serialized events in the given order.
+	 *
+	 * @param payloads must not be {@literal null}.
+	 */
+	void append(List<byte[]> payloads);
+
+	/**
+	 * Returns up to {@code max} records that have not been acknowledged yet, ordered by their sequence.
+	 *
+	 * @param max must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	List<OutboxRecord> fetch(int max);
+
+	/**
+	 * Removes all records up to and including the given sequence.
+	 *
+	 * @param sequence the sequence of the last relayed record.
+	 */
+	void acknowledge(long sequence);
+}
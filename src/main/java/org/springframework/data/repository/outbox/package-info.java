@@ -0,0 +1,6 @@
+/**
+ * Transactional outbox for domain events, capturing events along with the surrounding transaction and relaying them
+ * to listeners in the background.
+ */
+@org.springframework.lang.NonNullApi
+package org.springframework.data.repository.outbox;
@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 
 /**
@@ -161,6 +162,20 @@ public interface FluentQuery<T> {
 		 */
 		Stream<T> stream();
 
+		/**
+		 * Stream all matching elements in batches of up to {@code batchSize} elements. The default implementation batches
+		 * the elements of {@link #stream()}. Store modules backed by native batch cursors should override this method,
+		 * e.g. by exposing their cursor as {@link org.springframework.data.util.BatchingCloseableIterator} and using
+		 * {@link StreamUtils#createBatchStream(org.springframework.data.util.CloseableIterator, int)}.
+		 *
+		 * @param batchSize must be greater than zero.
+		 * @return a {@link Stream} wrapping cursors that need to be closed.
+		 * @since 3.0
+		 */
+		default Stream<List<T>> streamBatches(int batchSize) {
+			return StreamUtils.batch(stream(), batchSize);
+		}
+
 		/**
 		 * Get the number of matching elements.
 		 *
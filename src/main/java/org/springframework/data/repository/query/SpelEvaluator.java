@@ -15,21 +15,30 @@
  */
 package org.springframework.data.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 import org.springframework.data.repository.query.SpelQueryContext.SpelExtractor;
 import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Evaluates SpEL expressions as extracted by the {@link SpelExtractor} based on parameter information from a method and
  * parameter values from a method call.
+ * <p>
+ * Expressions are parsed once when creating the {@link SpelEvaluator} and are subject to SpEL compilation in
+ * {@link SpelCompilerMode#MIXED mixed mode}. All expressions of a single {@link #evaluate(Object[]) evaluation} share
+ * one {@link EvaluationContext} that is obtained for the merged {@link ExpressionDependencies} of all expressions.
  *
  * @author Jens Schauder
  * @author Gerrit Meier
@@ -39,17 +48,35 @@ import org.springframework.util.Assert;
  */
 public class SpelEvaluator {
 
-	private final static SpelExpressionParser PARSER = new SpelExpressionParser();
+	private final static SpelExpressionParser PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelEvaluator.class.getClassLoader()));
 
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 	private final Parameters<?, ?> parameters;
 	private final SpelExtractor extractor;
+	private final Map<String, Expression> expressions;
+	private final ExpressionDependencies dependencies;
 
 	public SpelEvaluator(QueryMethodEvaluationContextProvider evaluationContextProvider, Parameters<?, ?> parameters,
 			SpelExtractor extractor) {
+
 		this.evaluationContextProvider = evaluationContextProvider;
 		this.parameters = parameters;
 		this.extractor = extractor;
+
+		Map<String, Expression> expressions = new LinkedHashMap<>();
+		List<ExpressionDependencies> dependencies = new ArrayList<>();
+
+		extractor.getParameters().forEach(it -> {
+
+			Expression expression = PARSER.parseExpression(it.getValue());
+
+			expressions.put(it.getKey(), expression);
+			dependencies.add(ExpressionDependencies.discover(expression));
+		});
+
+		this.expressions = Collections.unmodifiableMap(expressions);
+		this.dependencies = ExpressionDependencies.merged(dependencies);
 	}
 
 	/**
@@ -62,11 +89,19 @@ public class SpelEvaluator {
 
 		Assert.notNull(values, "Values must not be null.");
 
+		if (expressions.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, values,
+				dependencies);
+		Map<String, Object> result = new HashMap<>(expressions.size() * 2);
+
+		for (Entry<String, Expression> entry : expressions.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().getValue(evaluationContext));
+		}
 
-		return extractor.getParameters().collect(Collectors.toMap(//
-				Entry::getKey, //
-				it -> getSpElValue(it.getValue(), values) //
-		));
+		return result;
 	}
 
 	/**
@@ -77,14 +112,4 @@ public class SpelEvaluator {
 	public String getQueryString() {
 		return extractor.getQueryString();
 	}
-
-	@Nullable
-	private Object getSpElValue(String expressionString, Object[] values) {
-
-		Expression expression = PARSER.parseExpression(expressionString);
-		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, values,
-				ExpressionDependencies.discover(expression));
-
-		return expression.getValue(evaluationContext);
-	}
 }
@@ -85,6 +85,11 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		return customSaveMethod ? super.invokeSave(entity) : repository.save(entity);
 	}
 
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> entities) {
+		return customSaveMethod ? super.invokeSaveAll(entities) : repository.saveAll(entities);
+	}
+
 	@Override
 	public void invokeDeleteById(Object id) {
 
@@ -16,6 +16,8 @@
 package org.springframework.data.repository.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
@@ -42,6 +44,26 @@ public interface RepositoryInvoker extends RepositoryInvocationInformation {
 	 */
 	<T> T invokeSave(T object);
 
+	/**
+	 * Invokes the method equivalent to {@link org.springframework.data.repository.CrudRepository#saveAll(Iterable)} on
+	 * the repository. The default implementation invokes {@link #invokeSave(Object)} for each of the given objects.
+	 *
+	 * @param objects must not be {@literal null}.
+	 * @return the saved objects.
+	 * @throws IllegalStateException if the repository does not expose a save method.
+	 * @since 3.0
+	 */
+	default <T> Iterable<T> invokeSaveAll(Iterable<T> objects) {
+
+		List<T> result = new ArrayList<>();
+
+		for (T object : objects) {
+			result.add(invokeSave(object));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Invokes the method equivalent to {@link org.springframework.data.repository.CrudRepository#findById(Object)}.
 	 *
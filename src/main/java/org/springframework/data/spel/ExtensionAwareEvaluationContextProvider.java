@@ -38,6 +38,7 @@ import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Optionals;
 import org.springframework.data.util.Predicates;
 import org.springframework.expression.AccessException;
+import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.MethodExecutor;
 import org.springframework.expression.MethodResolver;
@@ -50,6 +51,7 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * An {@link EvaluationContextProvider} that assembles an {@link EvaluationContext} from a list of
@@ -65,6 +67,10 @@ import org.springframework.util.ClassUtils;
 public class ExtensionAwareEvaluationContextProvider implements EvaluationContextProvider {
 
 	private final Map<String, EvaluationContextExtensionInformation> extensionInformationCache = new ConcurrentHashMap<>();
+	private final Map<ExpressionDependencies, EvaluationContextTemplate> templateCache = new ConcurrentReferenceHashMap<>();
+	private final Lazy<EvaluationContextTemplate> defaultTemplate = Lazy
+			.of(() -> new EvaluationContextTemplate(getExtensions(Predicates.isTrue())));
+	private final ReflectivePropertyAccessor reflectivePropertyAccessor = new ReflectivePropertyAccessor();
 	private final Lazy<? extends Collection<? extends ExtensionIdAware>> extensions;
 
 	private ListableBeanFactory beanFactory;
@@ -102,33 +108,21 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 
 	@Override
 	public StandardEvaluationContext getEvaluationContext(Object rootObject) {
-		return doGetEvaluationContext(rootObject, getExtensions(Predicates.isTrue()));
+		return defaultTemplate.get().createContext(rootObject);
 	}
 
 	@Override
 	public StandardEvaluationContext getEvaluationContext(Object rootObject, ExpressionDependencies dependencies) {
-		return doGetEvaluationContext(rootObject, getExtensions(it -> dependencies.stream().anyMatch(it::provides)));
+
+		EvaluationContextTemplate template = templateCache.computeIfAbsent(dependencies,
+				it -> new EvaluationContextTemplate(getExtensions(extension -> it.stream().anyMatch(extension::provides))));
+
+		return template.createContext(rootObject);
 	}
 
 	StandardEvaluationContext doGetEvaluationContext(Object rootObject,
 			Collection<? extends EvaluationContextExtension> extensions) {
-		StandardEvaluationContext context = new StandardEvaluationContext();
-
-		if (beanFactory != null) {
-			context.setBeanResolver(new BeanFactoryResolver(beanFactory));
-		}
-
-		ExtensionAwarePropertyAccessor accessor = new ExtensionAwarePropertyAccessor(extensions);
-
-		context.addPropertyAccessor(accessor);
-		context.addPropertyAccessor(new ReflectivePropertyAccessor());
-		context.addMethodResolver(accessor);
-
-		if (rootObject != null) {
-			context.setRootObject(rootObject);
-		}
-
-		return context;
+		return new EvaluationContextTemplate(extensions).createContext(rootObject);
 	}
 
 	Collection<? extends ExtensionIdAware> getExtensions() {
@@ -177,19 +171,79 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 	}
 
 	/**
-	 * Creates {@link EvaluationContextExtensionAdapter}s for the given {@link EvaluationContextExtension}s.
+	 * Immutable, pre-resolved setup of an {@link EvaluationContext} for a particular set of
+	 * {@link EvaluationContextExtension}s. Extensions are filtered, ordered and introspected once. Each call to
+	 * {@link #createContext(Object)} creates a lightweight {@link StandardEvaluationContext} that carries the root
+	 * object and variables of a single evaluation and shares the {@link BeanResolver} and reflective property accessor.
+	 * {@link EvaluationContextExtensionAdapter}s are still created per context as extensions may expose values that are
+	 * specific to the current invocation.
 	 *
-	 * @param extensions
-	 * @param filter to remove unwanted extensions.
-	 * @return
+	 * @since 3.0
 	 */
-	private List<EvaluationContextExtensionAdapter> toAdapters(
-			Collection<? extends EvaluationContextExtension> extensions) {
+	class EvaluationContextTemplate {
+
+		private final List<EvaluationContextExtension> extensions;
+		private final List<EvaluationContextExtensionInformation> information;
+		private final @Nullable BeanResolver beanResolver;
+
+		EvaluationContextTemplate(Collection<? extends EvaluationContextExtension> extensions) {
+
+			List<EvaluationContextExtension> sorted = new ArrayList<>(extensions);
+			sorted.sort(AnnotationAwareOrderComparator.INSTANCE);
+
+			List<EvaluationContextExtensionInformation> information = new ArrayList<>(sorted.size());
+
+			for (EvaluationContextExtension extension : sorted) {
+				information.add(getOrCreateInformation(extension));
+			}
+
+			this.extensions = Collections.unmodifiableList(sorted);
+			this.information = Collections.unmodifiableList(information);
+			this.beanResolver = beanFactory != null ? new BeanFactoryResolver(beanFactory) : null;
+		}
+
+		/**
+		 * Creates a new {@link StandardEvaluationContext} for the given root object.
+		 *
+		 * @param rootObject can be {@literal null}.
+		 * @return a new {@link StandardEvaluationContext}.
+		 */
+		StandardEvaluationContext createContext(@Nullable Object rootObject) {
 
-		return extensions.stream()//
-				.sorted(AnnotationAwareOrderComparator.INSTANCE)//
-				.map(it -> new EvaluationContextExtensionAdapter(it, getOrCreateInformation(it))) //
-				.collect(Collectors.toList());
+			StandardEvaluationContext context = new StandardEvaluationContext();
+
+			if (beanResolver != null) {
+				context.setBeanResolver(beanResolver);
+			}
+
+			ExtensionAwarePropertyAccessor accessor = new ExtensionAwarePropertyAccessor(this);
+
+			context.addPropertyAccessor(accessor);
+			context.addPropertyAccessor(reflectivePropertyAccessor);
+			context.addMethodResolver(accessor);
+
+			if (rootObject != null) {
+				context.setRootObject(rootObject);
+			}
+
+			return context;
+		}
+
+		/**
+		 * Creates {@link EvaluationContextExtensionAdapter}s for the pre-resolved {@link EvaluationContextExtension}s.
+		 *
+		 * @return
+		 */
+		List<EvaluationContextExtensionAdapter> toAdapters() {
+
+			List<EvaluationContextExtensionAdapter> adapters = new ArrayList<>(extensions.size());
+
+			for (int i = 0; i < extensions.size(); i++) {
+				adapters.add(new EvaluationContextExtensionAdapter(extensions.get(i), information.get(i)));
+			}
+
+			return adapters;
+		}
 	}
 
 	/**
@@ -208,12 +262,22 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 		 * @param extensions must not be {@literal null}.
 		 */
 		public ExtensionAwarePropertyAccessor(Collection<? extends EvaluationContextExtension> extensions) {
+			this(new EvaluationContextTemplate(extensions));
+		}
+
+		/**
+		 * Creates a new {@link ExtensionAwarePropertyAccessor} for the given {@link EvaluationContextTemplate}.
+		 *
+		 * @param template must not be {@literal null}.
+		 */
+		ExtensionAwarePropertyAccessor(EvaluationContextTemplate template) {
 
-			Assert.notNull(extensions, "Extensions must not be null!");
+			Assert.notNull(template, "EvaluationContextTemplate must not be null!");
 
-			this.adapters = toAdapters(extensions);
-			this.adapterMap = adapters.stream()//
-					.collect(Collectors.toMap(EvaluationContextExtensionAdapter::getExtensionId, it -> it));
+			this.adapters = template.toAdapters();
+			this.adapterMap = adapters.isEmpty() ? Collections.emptyMap()
+					: adapters.stream()//
+							.collect(Collectors.toMap(EvaluationContextExtensionAdapter::getExtensionId, it -> it));
 
 			Collections.reverse(this.adapters);
 		}
@@ -16,7 +16,12 @@
 package org.springframework.data.support;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -35,6 +40,8 @@ import org.springframework.util.Assert;
  */
 public abstract class PageableExecutionUtils {
 
+	private static final long TOTAL_REQUIRED = -1;
+
 	private PageableExecutionUtils() {}
 
 	/**
@@ -54,19 +61,184 @@ public abstract class PageableExecutionUtils {
 		Assert.notNull(pageable, "Pageable must not be null!");
 		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
 
+		long total = getDerivableTotal(content, pageable);
+
+		return new PageImpl<>(content, pageable, total != TOTAL_REQUIRED ? total : totalSupplier.getAsLong());
+	}
+
+	/**
+	 * Constructs a {@link Page} based on the given {@code content}, {@link Pageable} and an estimator for the total
+	 * number of elements. If the total can be determined based on the result size and {@link Pageable}, the
+	 * {@link Page} carries the exact total and the estimator is not invoked. Otherwise, the total is obtained from the
+	 * estimator and the resulting {@link Page} is flagged as {@link Page#hasApproximateTotal() approximate}. Estimates
+	 * lower than the number of elements seen so far are raised accordingly. For a full page, the total is raised to at
+	 * least one element beyond the page so that {@link Page#hasNext()} keeps clients paging.
+	 *
+	 * @param content result of a query with applied {@link Pageable}. The list must not be {@literal null} and must
+	 *          contain up to {@link Pageable#getPageSize()} items.
+	 * @param pageable must not be {@literal null}.
+	 * @param estimator must not be {@literal null}.
+	 * @return the {@link Page} for {@link List content} and an exact or approximate total size.
+	 * @since 3.0
+	 */
+	public static <T> Page<T> getPageWithEstimatedTotal(List<T> content, Pageable pageable, LongSupplier estimator) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		Assert.notNull(estimator, "Estimator must not be null!");
+
+		long total = getDerivableTotal(content, pageable);
+
+		if (total != TOTAL_REQUIRED) {
+			return new PageImpl<>(content, pageable, total);
+		}
+
+		long seen = pageable.getOffset() + content.size();
+
+		// a full page may be followed by further elements
+		long minimum = content.size() == pageable.getPageSize() ? seen + 1 : seen;
+
+		return new PageImpl<>(content, pageable, Math.max(estimator.getAsLong(), minimum), true);
+	}
+
+	/**
+	 * Constructs a {@link Page} based on the given {@code content}, {@link Pageable} and an asynchronously computed
+	 * total. Typically, the count query has been started before obtaining the content so that both queries run in
+	 * parallel. The given {@link Future} is cancelled if the total can be determined based on the result size and
+	 * {@link Pageable}, otherwise the method blocks until the total is available.
+	 *
+	 * @param content result of a query with applied {@link Pageable}. The list must not be {@literal null} and must
+	 *          contain up to {@link Pageable#getPageSize()} items.
+	 * @param pageable must not be {@literal null}.
+	 * @param total must not be {@literal null}.
+	 * @return the {@link Page} for {@link List content} and a total size.
+	 * @since 3.0
+	 */
+	public static <T> Page<T> getPage(List<T> content, Pageable pageable, Future<Long> total) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		Assert.notNull(total, "Total must not be null!");
+
+		long derivedTotal = getDerivableTotal(content, pageable);
+
+		if (derivedTotal != TOTAL_REQUIRED) {
+
+			total.cancel(true);
+			return new PageImpl<>(content, pageable, derivedTotal);
+		}
+
+		return new PageImpl<>(content, pageable, await(total));
+	}
+
+	/**
+	 * Constructs a {@link Page} by obtaining the content from the given {@link Supplier} while running the count query
+	 * represented by {@link LongSupplier} in parallel using the given {@link Executor}. The count query is cancelled if
+	 * the total can be determined based on the result size and {@link Pageable} or if obtaining the content fails. The
+	 * count query is not started at all for {@link Pageable#isUnpaged() unpaged} requests.
+	 * <p>
+	 * <strong>Note:</strong> the count query runs on a thread of the given {@link Executor}, i.e. outside of any
+	 * thread-bound state of the calling thread such as the current transaction, persistence context (e.g. a JPA
+	 * {@code EntityManager}) or security context. It may therefore see different data than the content query (e.g. not
+	 * see uncommitted changes of the current transaction or use a different isolation level), or fail if it requires a
+	 * thread-bound resource. Only use this method with a {@link LongSupplier} that is safe to run on a different thread,
+	 * e.g. one that obtains its own connection or transaction, and fall back to
+	 * {@link #getPage(List, Pageable, LongSupplier)} otherwise.
+	 *
+	 * @param contentSupplier must not be {@literal null}. Must return the result of a query with applied
+	 *          {@link Pageable} that contains up to {@link Pageable#getPageSize()} items.
+	 * @param pageable must not be {@literal null}.
+	 * @param totalSupplier must not be {@literal null}. Must be safe to be invoked on a thread of the given
+	 *          {@link Executor}.
+	 * @param executor the {@link Executor} to run the count query, must not be {@literal null}.
+	 * @return the {@link Page} for the content and a total size.
+	 * @since 3.0
+	 */
+	public static <T> Page<T> getPage(Supplier<List<T>> contentSupplier, Pageable pageable, LongSupplier totalSupplier,
+			Executor executor) {
+
+		Assert.notNull(contentSupplier, "Content supplier must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		if (pageable.isUnpaged()) {
+			return getPage(contentSupplier.get(), pageable, totalSupplier);
+		}
+
+		// FutureTask interrupts the count query on cancellation, CompletableFuture would not
+		FutureTask<Long> total = new FutureTask<>(totalSupplier::getAsLong);
+		executor.execute(total);
+
+		List<T> content;
+
+		try {
+			content = contentSupplier.get();
+		} catch (RuntimeException | Error o_O) {
+
+			total.cancel(true);
+			throw o_O;
+		}
+
+		Assert.notNull(content, "Content must not be null!");
+
+		return getPage(content, pageable, total);
+	}
+
+	/**
+	 * Returns the total number of elements if it can be determined based on the result size and {@link Pageable} or
+	 * {@link #TOTAL_REQUIRED} if a count query is required.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 */
+	private static long getDerivableTotal(List<?> content, Pageable pageable) {
+
 		if (pageable.isUnpaged() || pageable.getOffset() == 0) {
 
 			if (pageable.isUnpaged() || pageable.getPageSize() > content.size()) {
-				return new PageImpl<>(content, pageable, content.size());
+				return content.size();
 			}
 
-			return new PageImpl<>(content, pageable, totalSupplier.getAsLong());
+			return TOTAL_REQUIRED;
 		}
 
 		if (content.size() != 0 && pageable.getPageSize() > content.size()) {
-			return new PageImpl<>(content, pageable, pageable.getOffset() + content.size());
+			return pageable.getOffset() + content.size();
 		}
 
-		return new PageImpl<>(content, pageable, totalSupplier.getAsLong());
+		return TOTAL_REQUIRED;
+	}
+
+	private static long await(Future<Long> total) {
+
+		try {
+
+			Long result = total.get();
+
+			Assert.state(result != null, "Total must not be null!");
+
+			return result;
+		} catch (InterruptedException o_O) {
+
+			total.cancel(true);
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while waiting for the total count!", o_O);
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (cause instanceof Error error) {
+				throw error;
+			}
+
+			throw new IllegalStateException("Could not obtain the total count!", cause);
+		}
 	}
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Cache for the total number of elements of paged queries. Totals are cached by a key identifying the query and its
+ * predicate (e.g. the query string along with its bound parameters) and expire after a configurable time-to-live so
+ * that navigating between the pages of the same result does not re-run the {@code COUNT} query for every page.
+ * <p>
+ * The cache holds up to a configured number of totals. Expired totals are purged once that limit is reached, if the
+ * cache is still full afterwards, arbitrary totals are evicted.
+ *
+ * <pre class="code">
+ * TotalCountCache cache = new TotalCountCache(Duration.ofSeconds(30));
+ *
+ * Page&lt;Person&gt; page = PageableExecutionUtils.getPage(content, pageable,
+ * 		cache.cached(List.of(query, lastname), () -&gt; countByLastname(lastname)));
+ * </pre>
+ *
+ * @since 3.0
+ * @see PageableExecutionUtils
+ */
+public class TotalCountCache {
+
+	/**
+	 * The default maximum number of totals to cache.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final Map<Object, CachedTotal> totals = new ConcurrentHashMap<>();
+	private final long timeToLive;
+	private final int cacheLimit;
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@link TotalCountCache} holding up to {@link #DEFAULT_CACHE_LIMIT} totals for the given time-to-live.
+	 *
+	 * @param timeToLive must not be {@literal null} and must be positive.
+	 */
+	public TotalCountCache(Duration timeToLive) {
+		this(timeToLive, DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link TotalCountCache} holding up to {@code cacheLimit} totals for the given time-to-live.
+	 *
+	 * @param timeToLive must not be {@literal null} and must be positive.
+	 * @param cacheLimit must be greater than zero.
+	 */
+	public TotalCountCache(Duration timeToLive, int cacheLimit) {
+		this(timeToLive, cacheLimit, Clock.systemUTC());
+	}
+
+	TotalCountCache(Duration timeToLive, int cacheLimit, Clock clock) {
+
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive!");
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than zero!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.timeToLive = timeToLive.toMillis();
+		this.cacheLimit = cacheLimit;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the total for the given key. Returns the cached total if present and not expired, obtains and caches the
+	 * total from the given {@link LongSupplier} otherwise.
+	 *
+	 * @param key must not be {@literal null}. Must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+	 *          based on the query and its predicate.
+	 * @param totalSupplier must not be {@literal null}.
+	 * @return the total.
+	 */
+	public long getTotal(Object key, LongSupplier totalSupplier) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
+
+		long now = clock.millis();
+		CachedTotal cached = totals.get(key);
+
+		if (cached != null && !cached.isExpired(now)) {
+			return cached.total;
+		}
+
+		long total = totalSupplier.getAsLong();
+
+		if (cached == null && totals.size() >= cacheLimit) {
+			makeRoom(now);
+		}
+
+		totals.put(key, new CachedTotal(total, now + timeToLive));
+
+		return total;
+	}
+
+	/**
+	 * Returns a {@link LongSupplier} obtaining the total for the given key through this cache. Useful to pass a cached
+	 * count query to {@link PageableExecutionUtils#getPage(java.util.List, org.springframework.data.domain.Pageable,
+	 * LongSupplier)}, which only invokes the supplier if the total cannot be derived from the page content.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param totalSupplier must not be {@literal null}.
+	 * @return
+	 */
+	public LongSupplier cached(Object key, LongSupplier totalSupplier) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
+
+		return () -> getTotal(key, totalSupplier);
+	}
+
+	/**
+	 * Removes the total cached for the given key, e.g. after modifying the underlying data.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	public void evict(Object key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		totals.remove(key);
+	}
+
+	/**
+	 * Removes all cached totals.
+	 */
+	public void clear() {
+		totals.clear();
+	}
+
+	/**
+	 * Returns the number of cached totals including ones that have expired but were not purged yet.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return totals.size();
+	}
+
+	private void makeRoom(long now) {
+
+		totals.values().removeIf(it -> it.isExpired(now));
+
+		Iterator<Object> keys = totals.keySet().iterator();
+
+		while (totals.size() >= cacheLimit && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	private static final class CachedTotal {
+
+		private final long total;
+		private final long expiresAt;
+
+		CachedTotal(long total, long expiresAt) {
+			this.total = total;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CloseableIterator} that is able to hand out its elements in batches. Store modules can implement
+ * {@link #nextBatch(int, Consumer)} on top of native batch cursors so that consumers process elements batch by batch
+ * instead of through a {@code hasNext()}/{@code next()} call pair per element. The default implementation falls back
+ * to element-wise iteration, {@link #of(CloseableIterator)} adapts any {@link CloseableIterator}.
+ *
+ * @param <T>
+ * @since 3.0
+ * @see StreamUtils#createBatchStream(CloseableIterator, int)
+ */
+public interface BatchingCloseableIterator<T> extends CloseableIterator<T> {
+
+	/**
+	 * Returns a {@link BatchingCloseableIterator} for the given {@link CloseableIterator}. Returns the given instance if
+	 * it already is a {@link BatchingCloseableIterator}.
+	 *
+	 * @param iterator must not be {@literal null}.
+	 * @return
+	 */
+	static <T> BatchingCloseableIterator<T> of(CloseableIterator<T> iterator) {
+
+		Assert.notNull(iterator, "Iterator must not be null!");
+
+		if (iterator instanceof BatchingCloseableIterator<T> batching) {
+			return batching;
+		}
+
+		return new BatchingCloseableIterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+				iterator.close();
+			}
+		};
+	}
+
+	/**
+	 * Hands out up to {@code max} elements to the given {@link Consumer}. Implementations may hand out fewer elements
+	 * than requested, e.g. to align with the batches fetched from the underlying store, but must hand out at least one
+	 * element unless the iterator is exhausted.
+	 *
+	 * @param max the maximum number of elements to hand out, must be greater than zero.
+	 * @param action must not be {@literal null}.
+	 * @return the number of elements handed out, {@literal 0} if the iterator is exhausted.
+	 */
+	default int nextBatch(int max, Consumer<? super T> action) {
+
+		Assert.isTrue(max > 0, "Maximum batch size must be greater than zero!");
+		Assert.notNull(action, "Action must not be null!");
+
+		int count = 0;
+
+		while (count < max && hasNext()) {
+			action.accept(next());
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Hands out all remaining elements as batches of up to {@code batchSize} elements to the given {@link Consumer}. The
+	 * {@link List} handed out is reused for subsequent batches, so it must not be retained or modified by the
+	 * {@link Consumer}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @param action must not be {@literal null}.
+	 */
+	default void forEachBatch(int batchSize, Consumer<? super List<T>> action) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.notNull(action, "Action must not be null!");
+
+		List<T> buffer = new ArrayList<>(batchSize);
+
+		while (fill(this, buffer, batchSize)) {
+
+			action.accept(buffer);
+			buffer.clear();
+		}
+	}
+
+	@Override
+	default Spliterator<T> spliterator() {
+		return new BatchingIteratorSpliterator<>(this);
+	}
+
+	/**
+	 * Fills the given buffer with up to {@code batchSize} elements.
+	 *
+	 * @return whether the buffer contains any elements.
+	 */
+	private static <T> boolean fill(BatchingCloseableIterator<T> iterator, List<T> buffer, int batchSize) {
+
+		int remaining = batchSize;
+
+		while (remaining > 0) {
+
+			int read = iterator.nextBatch(remaining, buffer::add);
+
+			if (read == 0) {
+				break;
+			}
+
+			remaining -= read;
+		}
+
+		return !buffer.isEmpty();
+	}
+}
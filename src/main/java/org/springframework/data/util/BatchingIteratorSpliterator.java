@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Spliterator} traversing a {@link BatchingCloseableIterator} batch-wise. {@link #trySplit()} splits off batches
+ * of arithmetically increasing size, like {@link IteratorSpliterator} does, but obtains them through
+ * {@link BatchingCloseableIterator#nextBatch(int, Consumer)}.
+ *
+ * @since 3.0
+ */
+class BatchingIteratorSpliterator<T> implements Spliterator<T> {
+
+	private static final int BATCH_UNIT = 1 << 10; // batch size increment
+	private static final int MAX_BATCH = 1 << 25; // max batch size
+
+	private final BatchingCloseableIterator<T> iterator;
+	private int batch; // batch size for splits
+
+	BatchingIteratorSpliterator(BatchingCloseableIterator<T> iterator) {
+		this.iterator = iterator;
+	}
+
+	@Override
+	@Nullable
+	public Spliterator<T> trySplit() {
+
+		int n = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+		List<T> elements = new ArrayList<>(n);
+
+		while (elements.size() < n) {
+			if (iterator.nextBatch(n - elements.size(), elements::add) == 0) {
+				break;
+			}
+		}
+
+		if (elements.isEmpty()) {
+			return null;
+		}
+
+		batch = elements.size();
+
+		return elements.spliterator();
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		return iterator.nextBatch(1, action) > 0;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		while (iterator.nextBatch(BATCH_UNIT, action) > 0) {
+			// hand out elements batch-wise
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -25,8 +27,10 @@ import org.springframework.util.ObjectUtils;
 
 /**
  * Simple value type to delay the creation of an object using a {@link Supplier} returning the produced object for
- * subsequent lookups. Note, that no concurrency control is applied during the lookup of {@link #get()}, which means in
- * concurrent access scenarios, the provided {@link Supplier} can be called multiple times.
+ * subsequent lookups. The resolved value is safely published to other threads. The {@link ConcurrencyMode} defines
+ * whether the {@link Supplier} may be called multiple times in concurrent access scenarios. By default, no
+ * concurrency control is applied during the lookup of {@link #get()}, which means the provided {@link Supplier} can be
+ * called multiple times.
  *
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -35,34 +39,50 @@ import org.springframework.util.ObjectUtils;
  */
 public class Lazy<T> implements Supplier<T> {
 
-	private static final Lazy<?> EMPTY = new Lazy<>(() -> null, null, true);
+	private static final Object UNRESOLVED = new Object();
+	private static final VarHandle VALUE;
+
+	static {
+
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(Lazy.class, "value", Object.class);
+		} catch (ReflectiveOperationException o_O) {
+			throw new ExceptionInInitializerError(o_O);
+		}
+	}
+
+	private static final Lazy<?> EMPTY = new Lazy<>(() -> null, null, ConcurrencyMode.RACY);
 
 	private final Supplier<? extends T> supplier;
+	private final ConcurrencyMode mode;
 
-	private @Nullable T value;
-	private volatile boolean resolved;
+	@SuppressWarnings("unused") // accessed through VALUE
+	private @Nullable Object value;
 
 	/**
 	 * Creates a new {@link Lazy} instance for the given supplier.
 	 *
 	 * @param supplier
+	 * @param mode
 	 */
-	private Lazy(Supplier<? extends T> supplier) {
-		this(supplier, null, false);
+	private Lazy(Supplier<? extends T> supplier, ConcurrencyMode mode) {
+		this(supplier, UNRESOLVED, mode);
 	}
 
 	/**
-	 * Creates a new {@link Lazy} for the given {@link Supplier}, value and whether it has been resolved or not.
+	 * Creates a new {@link Lazy} for the given {@link Supplier} and value, {@link #UNRESOLVED} if the value has not been
+	 * resolved yet.
 	 *
 	 * @param supplier must not be {@literal null}.
 	 * @param value can be {@literal null}.
-	 * @param resolved whether the value handed into the constructor represents a resolved value.
+	 * @param mode must not be {@literal null}.
 	 */
-	private Lazy(Supplier<? extends T> supplier, @Nullable T value, boolean resolved) {
+	private Lazy(Supplier<? extends T> supplier, @Nullable Object value, ConcurrencyMode mode) {
 
 		this.supplier = supplier;
-		this.value = value;
-		this.resolved = resolved;
+		this.mode = mode;
+
+		VALUE.setRelease(this, value);
 	}
 
 	/**
@@ -73,7 +93,23 @@ public class Lazy<T> implements Supplier<T> {
 	 * @return
 	 */
 	public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
-		return new Lazy<>(supplier);
+		return of(supplier, ConcurrencyMode.RACY);
+	}
+
+	/**
+	 * Creates a new {@link Lazy} to produce an object lazily applying the given {@link ConcurrencyMode}.
+	 *
+	 * @param <T> the type of which to produce an object of eventually.
+	 * @param supplier the {@link Supplier} to create the object lazily.
+	 * @param mode must not be {@literal null}.
+	 * @return
+	 * @since 3.0
+	 */
+	public static <T> Lazy<T> of(Supplier<? extends T> supplier, ConcurrencyMode mode) {
+
+		Assert.notNull(mode, "ConcurrencyMode must not be null!");
+
+		return new Lazy<>(supplier, mode);
 	}
 
 	/**
@@ -87,7 +123,7 @@ public class Lazy<T> implements Supplier<T> {
 
 		Assert.notNull(value, "Value must not be null!");
 
-		return new Lazy<>(() -> value);
+		return new Lazy<>(() -> value, ConcurrencyMode.RACY);
 	}
 
 	/**
@@ -138,7 +174,7 @@ public class Lazy<T> implements Supplier<T> {
 
 		Assert.notNull(supplier, "Supplier must not be null!");
 
-		return Lazy.of(() -> orElseGet(supplier));
+		return Lazy.of(() -> orElseGet(supplier), mode);
 	}
 
 	/**
@@ -151,7 +187,7 @@ public class Lazy<T> implements Supplier<T> {
 
 		Assert.notNull(value, "Value must not be null!");
 
-		return Lazy.of(() -> orElse(value));
+		return Lazy.of(() -> orElse(value), mode);
 	}
 
 	/**
@@ -196,7 +232,7 @@ public class Lazy<T> implements Supplier<T> {
 
 		Assert.notNull(function, "Function must not be null!");
 
-		return Lazy.of(() -> function.apply(get()));
+		return Lazy.of(() -> function.apply(get()), mode);
 	}
 
 	/**
@@ -209,7 +245,7 @@ public class Lazy<T> implements Supplier<T> {
 
 		Assert.notNull(function, "Function must not be null!");
 
-		return Lazy.of(() -> function.apply(get()).get());
+		return Lazy.of(() -> function.apply(get()).get(), mode);
 	}
 
 	/**
@@ -219,18 +255,51 @@ public class Lazy<T> implements Supplier<T> {
 	 * @since 2.2
 	 */
 	@Nullable
+	@SuppressWarnings("unchecked")
 	public T getNullable() {
 
-		if (resolved) {
-			return value;
+		if (mode == ConcurrencyMode.SYNCHRONIZED) {
+			return resolveSynchronized();
 		}
 
-		this.value = supplier.get();
-		this.resolved = true;
+		Object value = VALUE.getAcquire(this);
+
+		if (value != UNRESOLVED) {
+			return (T) value;
+		}
+
+		return mode == ConcurrencyMode.DOUBLE_CHECKED ? resolveSynchronized() : resolve();
+	}
+
+	@Nullable
+	private T resolve() {
+
+		T value = supplier.get();
+
+		VALUE.setRelease(this, value);
 
 		return value;
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private synchronized T resolveSynchronized() {
+
+		Object value = VALUE.getAcquire(this);
+
+		return value != UNRESOLVED ? (T) value : resolve();
+	}
+
+	/**
+	 * Returns whether the value has been resolved already.
+	 *
+	 * @return
+	 * @since 3.0
+	 */
+	public boolean isResolved() {
+		return VALUE.getAcquire(this) != UNRESOLVED;
+	}
+
 	@Override
 	public boolean equals(@Nullable Object o) {
 
@@ -242,25 +311,50 @@ public class Lazy<T> implements Supplier<T> {
 			return false;
 		}
 
-		if (resolved != lazy.resolved) {
-			return false;
-		}
-
 		if (!ObjectUtils.nullSafeEquals(supplier, lazy.supplier)) {
 			return false;
 		}
 
-		return ObjectUtils.nullSafeEquals(value, lazy.value);
+		return ObjectUtils.nullSafeEquals(VALUE.getAcquire(this), VALUE.getAcquire(lazy));
 	}
 
 	@Override
 	public int hashCode() {
 
+		Object value = VALUE.getAcquire(this);
+
 		int result = ObjectUtils.nullSafeHashCode(supplier);
 
-		result = 31 * result + ObjectUtils.nullSafeHashCode(value);
-		result = 31 * result + (resolved ? 1 : 0);
+		result = 31 * result + (value == UNRESOLVED ? 0 : ObjectUtils.nullSafeHashCode(value));
+		result = 31 * result + (value == UNRESOLVED ? 0 : 1);
 
 		return result;
 	}
+
+	/**
+	 * Concurrency control applied when resolving the value of a {@link Lazy}. In all modes, the resolved value is safely
+	 * published to all threads accessing the {@link Lazy} afterwards.
+	 *
+	 * @since 3.0
+	 */
+	public enum ConcurrencyMode {
+
+		/**
+		 * No concurrency control. Threads concurrently accessing an unresolved {@link Lazy} may each call the
+		 * {@link Supplier}, with the last value obtained being retained. Resolved values are read without locking.
+		 */
+		RACY,
+
+		/**
+		 * The {@link Supplier} is called exactly once. Threads concurrently accessing an unresolved {@link Lazy} wait for
+		 * the resolution to complete. Resolved values are read without locking.
+		 */
+		DOUBLE_CHECKED,
+
+		/**
+		 * The {@link Supplier} is called exactly once and every access synchronizes on the {@link Lazy}. Only needed if the
+		 * {@link Supplier} relies on its side effects being guarded by the same monitor as accesses of the value.
+		 */
+		SYNCHRONIZED
+	}
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Spliterator} reading the elements of a {@link CloseableIterator} in chunks on a background task and buffering
+ * a bounded number of chunks ahead of the consumer. {@link #trySplit()} hands out the remainder of the current chunk
+ * or the next prefetched chunk, so that parallel streams can process chunks concurrently while the next ones are
+ * being read.
+ * <p>
+ * The {@link CloseableIterator} is only ever accessed by the background task. {@link #close()} stops the task, waits
+ * for it to finish and closes the iterator afterwards. If the {@link Executor} runs the task on the calling thread
+ * (e.g. a synchronous executor or a saturated pool using a caller-runs policy), the spliterator does not prefetch but
+ * reads chunks from the iterator on the consuming thread, as the task would otherwise block once the buffer is full.
+ *
+ * @since 3.0
+ * @see StreamUtils#createPrefetchingStream(CloseableIterator, int, int, Executor)
+ */
+class PrefetchingSpliterator<T> implements Spliterator<T> {
+
+	private static final Object END = new Object();
+
+	private static final int NEW = 0;
+	private static final int RUNNING = 1;
+	private static final int CANCELLED = 2;
+
+	private final BatchingCloseableIterator<T> iterator;
+	private final int chunkSize;
+	private final BlockingQueue<Object> chunks;
+	private final AtomicInteger state = new AtomicInteger(NEW);
+	private final CountDownLatch terminated = new CountDownLatch(1);
+	private final Thread creator = Thread.currentThread();
+
+	private volatile boolean closed;
+	private volatile @Nullable Thread producer;
+
+	private List<T> current = Collections.emptyList();
+	private int index;
+	private boolean exhausted;
+	private boolean inline;
+
+	/**
+	 * Creates a new {@link PrefetchingSpliterator} and starts prefetching on the given {@link Executor}.
+	 *
+	 * @param iterator must not be {@literal null}.
+	 * @param chunkSize must be greater than zero.
+	 * @param prefetchChunks the number of chunks to buffer, must be greater than zero.
+	 * @param executor must not be {@literal null}.
+	 */
+	PrefetchingSpliterator(CloseableIterator<T> iterator, int chunkSize, int prefetchChunks, Executor executor) {
+
+		Assert.notNull(iterator, "Iterator must not be null!");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+		Assert.isTrue(prefetchChunks > 0, "Number of prefetched chunks must be greater than zero!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.iterator = BatchingCloseableIterator.of(iterator);
+		this.chunkSize = chunkSize;
+		this.chunks = new ArrayBlockingQueue<>(prefetchChunks + 1);
+
+		executor.execute(this::prefetch);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+
+		if (index >= current.size() && !nextChunk()) {
+			return false;
+		}
+
+		action.accept(current.get(index++));
+
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+
+		do {
+
+			List<T> chunk = current;
+
+			for (int i = index; i < chunk.size(); i++) {
+				action.accept(chunk.get(i));
+			}
+
+			index = chunk.size();
+
+		} while (nextChunk());
+	}
+
+	@Override
+	@Nullable
+	public Spliterator<T> trySplit() {
+
+		if (index >= current.size() && !nextChunk()) {
+			return null;
+		}
+
+		Spliterator<T> prefix = current.subList(index, current.size()).spliterator();
+
+		current = Collections.emptyList();
+		index = 0;
+
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED;
+	}
+
+	/**
+	 * Stops prefetching and closes the underlying {@link CloseableIterator} once the background task has finished.
+	 */
+	void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		try {
+
+			if (!state.compareAndSet(NEW, CANCELLED)) {
+
+				synchronized (this) {
+
+					Thread thread = producer;
+
+					if (thread != null) {
+						thread.interrupt();
+					}
+				}
+
+				chunks.clear();
+				awaitTermination();
+			}
+
+			// release consumers still waiting for a chunk
+			chunks.clear();
+			chunks.offer(END);
+
+		} finally {
+			iterator.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean nextChunk() {
+
+		if (inline) {
+			return readChunk();
+		}
+
+		while (!exhausted && !closed) {
+
+			Object next = take();
+
+			if (next == END) {
+				exhausted = true;
+			} else if (next instanceof Failure failure) {
+				exhausted = true;
+				failure.rethrow();
+			} else if (next != null) {
+
+				current = (List<T>) next;
+				index = 0;
+
+				if (!current.isEmpty()) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads the next chunk on the consuming thread.
+	 */
+	private boolean readChunk() {
+
+		if (exhausted || closed) {
+			return false;
+		}
+
+		current = readChunk0();
+		index = 0;
+		exhausted = current.isEmpty();
+
+		return !exhausted;
+	}
+
+	private List<T> readChunk0() {
+
+		List<T> chunk = new ArrayList<>(chunkSize);
+
+		while (chunk.size() < chunkSize && iterator.nextBatch(chunkSize - chunk.size(), chunk::add) > 0) {
+			// fill chunk
+		}
+
+		return chunk;
+	}
+
+	@Nullable
+	private Object take() {
+
+		try {
+			return chunks.take();
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the next chunk!", o_O);
+		}
+	}
+
+	private void prefetch() {
+
+		// executed on the calling thread, prefetching would block the constructor
+		if (Thread.currentThread() == creator) {
+
+			inline = true;
+			return;
+		}
+
+		if (!state.compareAndSet(NEW, RUNNING)) {
+			return;
+		}
+
+		synchronized (this) {
+			producer = Thread.currentThread();
+		}
+
+		try {
+
+			while (!closed && iterator.hasNext()) {
+
+				chunks.put(readChunk0());
+			}
+
+			chunks.put(END);
+
+		} catch (InterruptedException o_O) {
+			// closed while waiting for the consumer
+		} catch (RuntimeException | Error o_O) {
+			publishFailure(o_O);
+		} finally {
+
+			synchronized (this) {
+				producer = null;
+				Thread.interrupted();
+			}
+
+			terminated.countDown();
+		}
+	}
+
+	private void publishFailure(Throwable cause) {
+
+		try {
+			chunks.put(new Failure(cause));
+		} catch (InterruptedException o_O) {
+			// closed while waiting for the consumer
+		}
+	}
+
+	private void awaitTermination() {
+
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				terminated.await();
+				break;
+			} catch (InterruptedException o_O) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final class Failure {
+
+		private final Throwable cause;
+
+		Failure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		void rethrow() {
+
+			if (cause instanceof Error error) {
+				throw error;
+			}
+
+			throw (RuntimeException) cause;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.util;
 
 import static java.util.stream.Collectors.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -68,9 +70,118 @@ public interface StreamUtils {
 
 		Assert.notNull(iterator, "Iterator must not be null!");
 
+		if (iterator instanceof BatchingCloseableIterator<T> batching) {
+			return StreamSupport.stream(batching.spliterator(), false).onClose(iterator::close);
+		}
+
 		return createStreamFromIterator((Iterator<T>) iterator).onClose(() -> iterator.close());
 	}
 
+	/**
+	 * Returns a {@link Stream} of batches of up to {@code batchSize} elements backed by the given
+	 * {@link CloseableIterator} and forwarding calls to {@link Stream#close()} to the iterator. Batches are obtained
+	 * through {@link BatchingCloseableIterator#nextBatch(int, Consumer)} so that native batch cursors are used if the
+	 * iterator provides them. All batches but the last one contain {@code batchSize} elements.
+	 *
+	 * @param iterator must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 * @return
+	 * @since 3.0
+	 */
+	static <T> Stream<List<T>> createBatchStream(CloseableIterator<T> iterator, int batchSize) {
+
+		Assert.notNull(iterator, "Iterator must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		BatchingCloseableIterator<T> batching = BatchingCloseableIterator.of(iterator);
+		int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+
+		return StreamSupport.stream(new AbstractSpliterator<List<T>>(Long.MAX_VALUE, characteristics) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super List<T>> action) {
+
+				List<T> batch = new ArrayList<>(batchSize);
+
+				while (batch.size() < batchSize && batching.nextBatch(batchSize - batch.size(), batch::add) > 0) {
+					// fill batch
+				}
+
+				if (batch.isEmpty()) {
+					return false;
+				}
+
+				action.accept(batch);
+
+				return true;
+			}
+		}, false).onClose(iterator::close);
+	}
+
+	/**
+	 * Returns a {@link Stream} of batches of up to {@code batchSize} elements of the given {@link Stream}. Closing the
+	 * returned {@link Stream} closes the given one.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 * @return
+	 * @since 3.0
+	 */
+	static <T> Stream<List<T>> batch(Stream<T> stream, int batchSize) {
+
+		Assert.notNull(stream, "Stream must not be null!");
+
+		Iterator<T> iterator = stream.iterator();
+
+		return createBatchStream(new BatchingCloseableIterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+				stream.close();
+			}
+		}, batchSize);
+	}
+
+	/**
+	 * Returns a {@link Stream} backed by the given {@link CloseableIterator} reading its elements in chunks of
+	 * {@code chunkSize} on the given {@link Executor}, buffering up to {@code prefetchChunks} chunks ahead of the
+	 * consumer. This allows to overlap reading from the underlying store with processing the elements already read.
+	 * <p>
+	 * The returned {@link Stream} is sequential. When switched to {@link Stream#parallel() parallel} execution, it
+	 * splits by handing out prefetched chunks to parallel consumers while preserving the encounter order. The
+	 * {@link CloseableIterator} is only accessed from the prefetching task. Calls to {@link Stream#close()} stop
+	 * prefetching and close the iterator after the prefetching task has finished, so the {@link Stream} must be closed
+	 * after use, e.g. by declaring it as a resource in a {@code try}-with-resources statement.
+	 *
+	 * @param iterator must not be {@literal null}.
+	 * @param chunkSize the number of elements per chunk, must be greater than zero.
+	 * @param prefetchChunks the number of chunks to buffer, must be greater than zero.
+	 * @param executor the {@link Executor} to run the prefetching task on, must not be {@literal null}. Should not be
+	 *          bounded by the number of concurrently consumed streams as the task is blocked until its stream is
+	 *          consumed or closed. If the executor runs the task on the calling thread, elements are read on the
+	 *          consuming thread without prefetching.
+	 * @return
+	 * @since 3.0
+	 */
+	static <T> Stream<T> createPrefetchingStream(CloseableIterator<T> iterator, int chunkSize, int prefetchChunks,
+			Executor executor) {
+
+		PrefetchingSpliterator<T> spliterator = new PrefetchingSpliterator<>(iterator, chunkSize, prefetchChunks,
+				executor);
+
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+	}
+
 	/**
 	 * Returns a {@link Collector} to create an unmodifiable {@link List}.
 	 *
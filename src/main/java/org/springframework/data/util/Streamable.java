@@ -17,6 +17,7 @@ package org.springframework.data.util;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -213,6 +214,27 @@ public interface Streamable<T> extends Iterable<T>, Supplier<Stream<T>> {
 		return stream().collect(StreamUtils.toUnmodifiableSet());
 	}
 
+	/**
+	 * Creates a non-parallel {@link Stream} of batches of up to {@code batchSize} elements of the underlying
+	 * {@link Iterable}. If the {@link Iterable} returns a {@link CloseableIterator}, batches are obtained through
+	 * {@link BatchingCloseableIterator#nextBatch(int, java.util.function.Consumer)} and closing the {@link Stream} closes
+	 * the iterator.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 3.0
+	 */
+	default Stream<List<T>> batches(int batchSize) {
+
+		Iterator<T> iterator = iterator();
+
+		if (iterator instanceof CloseableIterator<T> closeable) {
+			return StreamUtils.createBatchStream(closeable, batchSize);
+		}
+
+		return StreamUtils.batch(StreamUtils.createStreamFromIterator(iterator), batchSize);
+	}
+
 	default Stream<T> get() {
 		return stream();
 	}
@@ -21,7 +21,7 @@ import net.minidev.json.JSONObject;
 import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +38,7 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
@@ -61,6 +62,7 @@ import com.jayway.jsonpath.spi.mapper.MappingProvider;
 public class JsonProjectingMethodInterceptorFactory implements MethodInterceptorFactory {
 
 	private final ParseContext context;
+	private final Map<Method, JsonPathMethod> methodCache = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link JsonProjectingMethodInterceptorFactory} using the default {@link JsonProvider} and the given
@@ -102,7 +104,7 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 		DocumentContext context = InputStream.class.isInstance(source) ? this.context.parse((InputStream) source)
 				: this.context.parse(source);
 
-		return new InputMessageProjecting(context);
+		return new InputMessageProjecting(context, methodCache);
 	}
 
 	@Override
@@ -136,47 +138,39 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 	private static class InputMessageProjecting implements MethodInterceptor {
 
 		private final DocumentContext context;
+		private final Map<Method, JsonPathMethod> methodCache;
+
+		public InputMessageProjecting(DocumentContext context, Map<Method, JsonPathMethod> methodCache) {
 
-		public InputMessageProjecting(DocumentContext context) {
 			this.context = context;
+			this.methodCache = methodCache;
 		}
 
 		@Nullable
 		@Override
 		public Object invoke(MethodInvocation invocation) throws Throwable {
 
-			Method method = invocation.getMethod();
-			TypeInformation<Object> returnType = ClassTypeInformation.fromReturnTypeOf(method);
-			ResolvableType type = ResolvableType.forMethodReturnType(method);
-			boolean isCollectionResult = Collection.class.isAssignableFrom(type.getRawClass());
-			type = isCollectionResult ? type : ResolvableType.forClassWithGenerics(List.class, type);
-
-			Iterable<String> jsonPaths = getJsonPaths(method);
+			JsonPathMethod method = methodCache.computeIfAbsent(invocation.getMethod(), JsonPathMethod::new);
 
-			for (String jsonPath : jsonPaths) {
+			for (CompiledJsonPath jsonPath : method.getJsonPaths()) {
 
 				try {
 
-					if (returnType.getRequiredActualType().getType().isInterface()) {
+					if (method.isInterfaceResult()) {
 
-						List<?> result = context.read(jsonPath);
+						List<?> result = context.read(jsonPath.getPath());
 						Object nested = result.isEmpty() ? null : result.get(0);
 
-						return isCollectionResult && !(nested instanceof Collection) ? result : nested;
+						return method.isCollectionResult() && !(nested instanceof Collection) ? result : nested;
 					}
 
-					boolean definitePath = JsonPath.isPathDefinite(jsonPath);
-					type = isCollectionResult && definitePath
-							? ResolvableType.forClassWithGenerics(List.class, type)
-							: type;
-
-					List<?> result = (List<?>) context.read(jsonPath, new ResolvableTypeRef(type));
+					List<?> result = (List<?>) context.read(jsonPath.getPath(), jsonPath.getTypeRef());
 
-					if (isCollectionResult && definitePath) {
+					if (method.isCollectionResult() && jsonPath.isDefinite()) {
 						result = (List<?>) result.get(0);
 					}
 
-					return isCollectionResult ? result : result.isEmpty() ? null : result.get(0);
+					return method.isCollectionResult() ? result : result.isEmpty() ? null : result.get(0);
 
 				} catch (PathNotFoundException o_O) {
 					// continue with next path
@@ -185,6 +179,50 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 
 			return null;
 		}
+	}
+
+	/**
+	 * Pre-resolved metadata of a projection method: the compiled {@link JsonPath}s to evaluate and the return type
+	 * information required to read the value.
+	 *
+	 * @since 3.0
+	 */
+	private static class JsonPathMethod {
+
+		private final boolean interfaceResult;
+		private final boolean collectionResult;
+		private final List<CompiledJsonPath> jsonPaths;
+
+		JsonPathMethod(Method method) {
+
+			TypeInformation<Object> returnType = ClassTypeInformation.fromReturnTypeOf(method);
+			ResolvableType type = ResolvableType.forMethodReturnType(method);
+
+			this.interfaceResult = returnType.getRequiredActualType().getType().isInterface();
+			this.collectionResult = Collection.class.isAssignableFrom(type.getRawClass());
+
+			ResolvableType typeToRead = collectionResult ? type : ResolvableType.forClassWithGenerics(List.class, type);
+			List<String> paths = getJsonPaths(method);
+			List<CompiledJsonPath> jsonPaths = new ArrayList<>(paths.size());
+
+			for (String path : paths) {
+				jsonPaths.add(new CompiledJsonPath(path, typeToRead, collectionResult));
+			}
+
+			this.jsonPaths = Collections.unmodifiableList(jsonPaths);
+		}
+
+		boolean isInterfaceResult() {
+			return interfaceResult;
+		}
+
+		boolean isCollectionResult() {
+			return collectionResult;
+		}
+
+		List<CompiledJsonPath> getJsonPaths() {
+			return jsonPaths;
+		}
 
 		/**
 		 * Returns the JSONPath expression to be used for the given method.
@@ -192,30 +230,62 @@ public class JsonProjectingMethodInterceptorFactory implements MethodInterceptor
 		 * @param method
 		 * @return
 		 */
-		private static Collection<String> getJsonPaths(Method method) {
+		private static List<String> getJsonPaths(Method method) {
 
 			org.springframework.data.web.JsonPath annotation = AnnotationUtils.findAnnotation(method,
 					org.springframework.data.web.JsonPath.class);
 
 			if (annotation != null) {
-				return Arrays.asList(annotation.value());
+				return List.of(annotation.value());
 			}
 
 			return Collections.singletonList("$.".concat(new Accessor(method).getPropertyName()));
 		}
+	}
+
+	/**
+	 * A compiled {@link JsonPath} along with the {@link TypeRef} to read its result.
+	 *
+	 * @since 3.0
+	 */
+	private static class CompiledJsonPath {
 
-		private static class ResolvableTypeRef extends TypeRef<Object> {
+		private final JsonPath path;
+		private final boolean definite;
+		private final TypeRef<Object> typeRef;
 
-			private final ResolvableType type;
+		CompiledJsonPath(String expression, ResolvableType type, boolean collectionResult) {
 
-			ResolvableTypeRef(ResolvableType type) {
-				this.type = type;
-			}
+			this.path = JsonPath.compile(expression);
+			this.definite = path.isDefinite();
+			this.typeRef = new ResolvableTypeRef(
+					collectionResult && definite ? ResolvableType.forClassWithGenerics(List.class, type) : type);
+		}
 
-			@Override
-			public Type getType() {
-				return type.getType();
-			}
+		JsonPath getPath() {
+			return path;
+		}
+
+		boolean isDefinite() {
+			return definite;
+		}
+
+		TypeRef<Object> getTypeRef() {
+			return typeRef;
+		}
+	}
+
+	private static class ResolvableTypeRef extends TypeRef<Object> {
+
+		private final ResolvableType type;
+
+		ResolvableTypeRef(ResolvableType type) {
+			this.type = type;
+		}
+
+		@Override
+		public Type getType() {
+			return type.getType();
 		}
 	}
 }
@@ -18,6 +18,7 @@ package org.springframework.data.web;
 import static org.springframework.data.web.SpringDataAnnotationUtils.*;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -51,6 +53,7 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 	private static final String DEFAULT_QUALIFIER_DELIMITER = "_";
 	private static final int DEFAULT_MAX_PAGE_SIZE = 2000;
 	static final Pageable DEFAULT_PAGE_REQUEST = PageRequest.of(0, 20);
+	private static final int NOT_PRESENT = -1;
 
 	private Pageable fallbackPageable = DEFAULT_PAGE_REQUEST;
 	private String pageParameterName = DEFAULT_PAGE_PARAMETER;
@@ -60,6 +63,8 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 	private int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
 	private boolean oneIndexedParameters = false;
 
+	private final Map<MethodParameter, Optional<Pageable>> annotatedDefaults = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Configures the {@link Pageable} to be used as fallback in case no {@link PageableDefault} can be found at the
 	 * method parameter to be resolved.
@@ -190,28 +195,39 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 
 	protected Pageable getPageable(MethodParameter methodParameter, @Nullable String pageString,
 			@Nullable String pageSizeString) {
-		assertPageableUniqueness(methodParameter);
 
-		Optional<Pageable> defaultOrFallback = getDefaultFromAnnotationOrFallback(methodParameter).toOptional();
+		Pageable defaultOrFallback = getDefaultFromAnnotationOrFallback(methodParameter);
 
-		Optional<Integer> page = parseAndApplyBoundaries(pageString, Integer.MAX_VALUE, true);
-		Optional<Integer> pageSize = parseAndApplyBoundaries(pageSizeString, maxPageSize, false);
+		int page = parseAndApplyBoundaries(pageString, Integer.MAX_VALUE, true);
+		int pageSize = parseAndApplyBoundaries(pageSizeString, maxPageSize, false);
 
-		if (!(page.isPresent() && pageSize.isPresent()) && !defaultOrFallback.isPresent()) {
+		if (!(page != NOT_PRESENT && pageSize != NOT_PRESENT) && defaultOrFallback.isUnpaged()) {
 			return Pageable.unpaged();
 		}
 
-		int p = page
-				.orElseGet(() -> defaultOrFallback.map(Pageable::getPageNumber).orElseThrow(IllegalStateException::new));
-		int ps = pageSize
-				.orElseGet(() -> defaultOrFallback.map(Pageable::getPageSize).orElseThrow(IllegalStateException::new));
+		int p = page != NOT_PRESENT ? page : defaultOrFallback.getPageNumber();
+		int ps = pageSize != NOT_PRESENT ? pageSize : defaultOrFallback.getPageSize();
 
 		// Limit lower bound
-		ps = ps < 1 ? defaultOrFallback.map(Pageable::getPageSize).orElseThrow(IllegalStateException::new) : ps;
+		if (ps < 1) {
+
+			if (defaultOrFallback.isUnpaged()) {
+				throw new IllegalStateException();
+			}
+
+			ps = defaultOrFallback.getPageSize();
+		}
+
 		// Limit upper bound
 		ps = ps > maxPageSize ? maxPageSize : ps;
 
-		return PageRequest.of(p, ps, defaultOrFallback.map(Pageable::getSort).orElseGet(Sort::unsorted));
+		// Reuse the immutable default instance for the common case of no or matching paging parameters
+		if (defaultOrFallback instanceof PageRequest && defaultOrFallback.getPageNumber() == p
+				&& defaultOrFallback.getPageSize() == ps) {
+			return defaultOrFallback;
+		}
+
+		return PageRequest.of(p, ps, defaultOrFallback.isPaged() ? defaultOrFallback.getSort() : Sort.unsorted());
 	}
 
 	/**
@@ -224,10 +240,14 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 	 */
 	protected String getParameterNameToUse(String source, @Nullable MethodParameter parameter) {
 
-		StringBuilder builder = new StringBuilder(prefix);
-
 		String value = SpringDataAnnotationUtils.getQualifier(parameter);
 
+		if (prefix.isEmpty() && !StringUtils.hasLength(value)) {
+			return source;
+		}
+
+		StringBuilder builder = new StringBuilder(prefix);
+
 		if (StringUtils.hasLength(value)) {
 			builder.append(value);
 			builder.append(qualifierDelimiter);
@@ -237,14 +257,24 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 	}
 
 	private Pageable getDefaultFromAnnotationOrFallback(MethodParameter methodParameter) {
+		return annotatedDefaults.computeIfAbsent(methodParameter, this::getDefaultFromAnnotation).orElse(fallbackPageable);
+	}
 
-		PageableDefault defaults = methodParameter.getParameterAnnotation(PageableDefault.class);
+	/**
+	 * Verifies the {@link Pageable} parameters of the method and reads the default {@link Pageable} from the
+	 * {@link PageableDefault} annotation of the given {@link MethodParameter}. The result is cached per
+	 * {@link MethodParameter} as annotations do not change.
+	 *
+	 * @param methodParameter must not be {@literal null}.
+	 * @return the default {@link Pageable} or {@link Optional#empty()} if the parameter is not annotated.
+	 */
+	private Optional<Pageable> getDefaultFromAnnotation(MethodParameter methodParameter) {
 
-		if (defaults != null) {
-			return getDefaultPageRequestFrom(methodParameter, defaults);
-		}
+		assertPageableUniqueness(methodParameter);
+
+		PageableDefault defaults = methodParameter.getParameterAnnotation(PageableDefault.class);
 
-		return fallbackPageable;
+		return defaults == null ? Optional.empty() : Optional.of(getDefaultPageRequestFrom(methodParameter, defaults));
 	}
 
 	private static Pageable getDefaultPageRequestFrom(MethodParameter parameter, PageableDefault defaults) {
@@ -266,24 +296,24 @@ public abstract class PageableHandlerMethodArgumentResolverSupport {
 
 	/**
 	 * Tries to parse the given {@link String} into an integer and applies the given boundaries. Will return 0 if the
-	 * {@link String} cannot be parsed.
+	 * {@link String} cannot be parsed and {@link #NOT_PRESENT} if it does not contain any text.
 	 *
 	 * @param parameter the parameter value.
 	 * @param upper the upper bound to be applied.
 	 * @param shiftIndex whether to shift the index if {@link #oneIndexedParameters} is set to true.
 	 * @return
 	 */
-	private Optional<Integer> parseAndApplyBoundaries(@Nullable String parameter, int upper, boolean shiftIndex) {
+	private int parseAndApplyBoundaries(@Nullable String parameter, int upper, boolean shiftIndex) {
 
 		if (!StringUtils.hasText(parameter)) {
-			return Optional.empty();
+			return NOT_PRESENT;
 		}
 
 		try {
 			int parsed = Integer.parseInt(parameter) - (oneIndexedParameters && shiftIndex ? 1 : 0);
-			return Optional.of(parsed < 0 ? 0 : parsed > upper ? upper : parsed);
+			return parsed < 0 ? 0 : parsed > upper ? upper : parsed;
 		} catch (NumberFormatException e) {
-			return Optional.of(0);
+			return 0;
 		}
 	}
 
@@ -26,6 +26,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.Lazy;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
@@ -55,6 +56,7 @@ public class PagedResourcesAssembler<T> implements RepresentationModelAssembler<
 
 	private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
 	private final Optional<UriComponents> baseUri;
+	private final Lazy<UriComponents> baseUriTemplate;
 	private final EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
 
 	private boolean forceFirstAndLastRels = false;
@@ -72,6 +74,7 @@ public class PagedResourcesAssembler<T> implements RepresentationModelAssembler<
 
 		this.pageableResolver = resolver == null ? new HateoasPageableHandlerMethodArgumentResolver() : resolver;
 		this.baseUri = Optional.ofNullable(baseUri);
+		this.baseUriTemplate = Lazy.of(() -> toBaseUri(this.baseUri.map(Object::toString).orElseThrow()));
 	}
 
 	/**
@@ -213,60 +216,85 @@ public class PagedResourcesAssembler<T> implements RepresentationModelAssembler<
 
 	private <R> PagedModel<R> addPaginationLinks(PagedModel<R> resources, Page<?> page, Optional<Link> link) {
 
-		UriTemplate base = getUriTemplate(link);
+		resources.add(getPaginationLinks(page, link));
+
+		return resources;
+	}
+
+	/**
+	 * Creates the pagination links ({@code first}, {@code prev}, {@code self}, {@code next}, {@code last}) for the given
+	 * {@link Page}.
+	 *
+	 * @param page must not be {@literal null}.
+	 * @param link the self link to use, if absent the base URI or current request will be used.
+	 * @return the pagination links in the order to be rendered.
+	 * @since 3.0
+	 */
+	List<Link> getPaginationLinks(Page<?> page, Optional<Link> link) {
+
+		UriComponents base = getBaseUri(link);
+		List<Link> links = new ArrayList<>(5);
 
 		boolean isNavigable = page.hasPrevious() || page.hasNext();
 
 		if (isNavigable || forceFirstAndLastRels) {
-			resources.add(createLink(base, PageRequest.of(0, page.getSize(), page.getSort()), IanaLinkRelations.FIRST));
+			links.add(createLink(base, PageRequest.of(0, page.getSize(), page.getSort()), IanaLinkRelations.FIRST));
 		}
 
 		if (page.hasPrevious()) {
-			resources.add(createLink(base, page.previousPageable(), IanaLinkRelations.PREV));
+			links.add(createLink(base, page.previousPageable(), IanaLinkRelations.PREV));
 		}
 
 		Link selfLink = link.map(Link::withSelfRel)//
 				.orElseGet(() -> createLink(base, page.getPageable(), IanaLinkRelations.SELF));
 
-		resources.add(selfLink);
+		links.add(selfLink);
 
 		if (page.hasNext()) {
-			resources.add(createLink(base, page.nextPageable(), IanaLinkRelations.NEXT));
+			links.add(createLink(base, page.nextPageable(), IanaLinkRelations.NEXT));
 		}
 
 		if (isNavigable || forceFirstAndLastRels) {
 
 			int lastIndex = page.getTotalPages() == 0 ? 0 : page.getTotalPages() - 1;
 
-			resources
-					.add(createLink(base, PageRequest.of(lastIndex, page.getSize(), page.getSort()), IanaLinkRelations.LAST));
+			links.add(createLink(base, PageRequest.of(lastIndex, page.getSize(), page.getSort()), IanaLinkRelations.LAST));
 		}
 
-		return resources;
+		return links;
 	}
 
 	/**
-	 * Returns a default URI string either from the one configured on assembler creatino or by looking it up from the
-	 * current request.
+	 * Returns the base URI either from the given link, the one configured on assembler creation or by looking it up from
+	 * the current request. The base URI configured on assembler creation is only expanded once and then reused.
 	 *
 	 * @return
 	 */
-	private UriTemplate getUriTemplate(Optional<Link> baseLink) {
-		return UriTemplate.of(baseLink.map(Link::getHref).orElseGet(this::baseUriOrCurrentRequest));
+	private UriComponents getBaseUri(Optional<Link> baseLink) {
+
+		if (baseLink.isPresent()) {
+			return toBaseUri(baseLink.get().getHref());
+		}
+
+		return baseUri.isPresent() ? baseUriTemplate.get() : toBaseUri(currentRequest());
+	}
+
+	private static UriComponents toBaseUri(String uri) {
+		return fromUri(UriTemplate.of(uri).expand()).build();
 	}
 
 	/**
-	 * Creates a {@link Link} with the given {@link LinkRelation} that will be based on the given {@link UriTemplate} but
-	 * enriched with the values of the given {@link Pageable} (if not {@literal null}).
+	 * Creates a {@link Link} with the given {@link LinkRelation} that will be based on the given {@link UriComponents}
+	 * but enriched with the values of the given {@link Pageable} (if not {@literal null}).
 	 *
 	 * @param base must not be {@literal null}.
 	 * @param pageable can be {@literal null}
 	 * @param relation must not be {@literal null}.
 	 * @return
 	 */
-	private Link createLink(UriTemplate base, Pageable pageable, LinkRelation relation) {
+	private Link createLink(UriComponents base, Pageable pageable, LinkRelation relation) {
 
-		UriComponentsBuilder builder = fromUri(base.expand());
+		UriComponentsBuilder builder = UriComponentsBuilder.newInstance().uriComponents(base);
 		pageableResolver.enhance(builder, getMethodParameter(), pageable);
 
 		return Link.of(UriTemplate.of(builder.build().toString()), relation);
@@ -290,7 +318,7 @@ public class PagedResourcesAssembler<T> implements RepresentationModelAssembler<
 	 * @param page must not be {@literal null}.
 	 * @return
 	 */
-	private PageMetadata asPageMetadata(Page<?> page) {
+	PageMetadata asPageMetadata(Page<?> page) {
 
 		Assert.notNull(page, "Page must not be null!");
 
@@ -299,10 +327,6 @@ public class PagedResourcesAssembler<T> implements RepresentationModelAssembler<
 		return new PageMetadata(page.getSize(), number, page.getTotalElements(), page.getTotalPages());
 	}
 
-	private String baseUriOrCurrentRequest() {
-		return baseUri.map(Object::toString).orElseGet(PagedResourcesAssembler::currentRequest);
-	}
-
 	private static String currentRequest() {
 		return ServletUriComponentsBuilder.fromCurrentRequest().build().toString();
 	}
@@ -16,9 +16,9 @@
 package org.springframework.data.web;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -29,6 +29,7 @@ import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.web.SortDefault.SortDefaults;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -56,6 +57,8 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	private String propertyDelimiter = DEFAULT_PROPERTY_DELIMITER;
 	private String qualifierDelimiter = DEFAULT_QUALIFIER_DELIMITER;
 
+	private final Map<MethodParameter, Optional<Sort>> annotatedDefaults = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * propertyDel Configure the request parameter to lookup sort information from. Defaults to {@code sort}.
 	 *
@@ -119,6 +122,17 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	 *         {@link #setFallbackSort(Sort)}.
 	 */
 	protected Sort getDefaultFromAnnotationOrFallback(MethodParameter parameter) {
+		return annotatedDefaults.computeIfAbsent(parameter, this::getDefaultFromAnnotation).orElse(fallbackSort);
+	}
+
+	/**
+	 * Reads the default {@link Sort} from the {@link SortDefault} or {@link SortDefaults} annotations of the given
+	 * {@link MethodParameter}. The result is cached per {@link MethodParameter} as annotations do not change.
+	 *
+	 * @param parameter will never be {@literal null}.
+	 * @return the default {@link Sort} or {@link Optional#empty()} if the parameter is not annotated.
+	 */
+	private Optional<Sort> getDefaultFromAnnotation(MethodParameter parameter) {
 
 		SortDefaults annotatedDefaults = parameter.getParameterAnnotation(SortDefaults.class);
 		SortDefault annotatedDefault = parameter.getParameterAnnotation(SortDefault.class);
@@ -130,7 +144,7 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 		}
 
 		if (annotatedDefault != null) {
-			return appendOrCreateSortTo(annotatedDefault, Sort.unsorted());
+			return Optional.of(appendOrCreateSortTo(annotatedDefault, Sort.unsorted()));
 		}
 
 		if (annotatedDefaults != null) {
@@ -141,10 +155,10 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 				sort = appendOrCreateSortTo(currentAnnotatedDefault, sort);
 			}
 
-			return sort;
+			return Optional.of(sort);
 		}
 
-		return fallbackSort;
+		return Optional.empty();
 	}
 
 	/**
@@ -181,16 +195,13 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	 */
 	protected String getSortParameter(@Nullable MethodParameter parameter) {
 
-		StringBuilder builder = new StringBuilder();
-
 		String value = SpringDataAnnotationUtils.getQualifier(parameter);
 
-		if (StringUtils.hasLength(value)) {
-			builder.append(value);
-			builder.append(qualifierDelimiter);
+		if (!StringUtils.hasLength(value)) {
+			return sortParameter;
 		}
 
-		return builder.append(sortParameter).toString();
+		return value + qualifierDelimiter + sortParameter;
 	}
 
 	/**
@@ -214,13 +225,10 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 				continue;
 			}
 
-			SortOrderParser.parse(part, delimiter) //
-					.parseIgnoreCase() //
-					.parseDirection() //
-					.forEachOrder(allOrders::add);
+			SortOrderParser.parse(part, delimiter).forEachOrder(allOrders::add);
 		}
 
-		return allOrders.isEmpty() ? Sort.unsorted() : Sort.by(allOrders);
+		return allOrders.isEmpty() ? Sort.unsorted() : Sort.canonical(Sort.by(allOrders));
 	}
 
 	/**
@@ -289,7 +297,29 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	 * @return
 	 */
 	static boolean notOnlyDots(String source) {
-		return StringUtils.hasText(source.replace(".", ""));
+		return notOnlyDots(source, 0, source.length());
+	}
+
+	/**
+	 * Returns whether the given range of the source {@link String} contains text other than dots.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param start the start index, inclusive.
+	 * @param end the end index, exclusive.
+	 * @return
+	 */
+	private static boolean notOnlyDots(String source, int start, int end) {
+
+		for (int i = start; i < end; i++) {
+
+			char c = source.charAt(i);
+
+			if (c != '.' && !Character.isWhitespace(c)) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	/**
@@ -353,7 +383,9 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	}
 
 	/**
-	 * Parser for sort {@link Order}.
+	 * Single-pass parser for sort {@link Order}s. Splits the source into its elements without using regular expressions
+	 * for literal delimiters, then inspects the trailing elements for the {@code ignoreCase} flag and the
+	 * {@link Direction}.
 	 *
 	 * @author Mark Paluch
 	 * @since 2.3
@@ -361,20 +393,30 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 	static class SortOrderParser {
 
 		private static final String IGNORECASE = "ignorecase";
+		private static final String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
 
-		private final String[] elements;
+		private final List<String> elements;
 		private final int lastIndex;
-		private final Optional<Direction> direction;
-		private final Optional<Boolean> ignoreCase;
+		private final @Nullable Direction direction;
+		private final boolean ignoreCase;
 
-		private SortOrderParser(String[] elements) {
-			this(elements, elements.length, Optional.empty(), Optional.empty());
-		}
+		private SortOrderParser(List<String> elements) {
+
+			int lastIndex = elements.size();
+			boolean ignoreCase = lastIndex > 0 && IGNORECASE.equalsIgnoreCase(elements.get(lastIndex - 1));
+
+			if (ignoreCase) {
+				lastIndex--;
+			}
+
+			Direction direction = lastIndex > 0 ? toDirection(elements.get(lastIndex - 1)) : null;
+
+			if (direction != null) {
+				lastIndex--;
+			}
 
-		private SortOrderParser(String[] elements, int lastIndex, Optional<Direction> direction,
-				Optional<Boolean> ignoreCase) {
 			this.elements = elements;
-			this.lastIndex = Math.max(0, lastIndex);
+			this.lastIndex = lastIndex;
 			this.direction = direction;
 			this.ignoreCase = ignoreCase;
 		}
@@ -387,68 +429,93 @@ public abstract class SortHandlerMethodArgumentResolverSupport {
 		 * @return the parsing state object.
 		 */
 		public static SortOrderParser parse(String part, String delimiter) {
-
-			String[] elements = Arrays.stream(part.split(delimiter)) //
-					.filter(SortHandlerMethodArgumentResolver::notOnlyDots) //
-					.toArray(String[]::new);
-
-			return new SortOrderParser(elements);
+			return new SortOrderParser(split(part, delimiter));
 		}
 
 		/**
-		 * Parse the {@code ignoreCase} portion of the sort specification.
+		 * Notify a {@link Consumer callback function} for each parsed {@link Order} object.
 		 *
-		 * @return a new parsing state object.
+		 * @param callback block to be executed.
 		 */
-		public SortOrderParser parseIgnoreCase() {
+		public void forEachOrder(Consumer<? super Order> callback) {
 
-			Optional<Boolean> ignoreCase = lastIndex > 0 ? fromOptionalString(elements[lastIndex - 1]) : Optional.empty();
+			for (int i = 0; i < lastIndex; i++) {
 
-			return new SortOrderParser(elements, lastIndex - (ignoreCase.isPresent() ? 1 : 0), direction, ignoreCase);
-		}
+				String property = elements.get(i);
 
-		/**
-		 * Parse the {@link Order} portion of the sort specification.
-		 *
-		 * @return a new parsing state object.
-		 */
-		public SortOrderParser parseDirection() {
+				if (!StringUtils.hasText(property)) {
+					continue;
+				}
 
-			Optional<Direction> direction = lastIndex > 0 ? Direction.fromOptionalString(elements[lastIndex - 1])
-					: Optional.empty();
+				Order order = direction == null ? Order.by(property) : new Order(direction, property);
 
-			return new SortOrderParser(elements, lastIndex - (direction.isPresent() ? 1 : 0), direction, ignoreCase);
+				callback.accept(ignoreCase ? order.ignoreCase() : order);
+			}
 		}
 
 		/**
-		 * Notify a {@link Consumer callback function} for each parsed {@link Order} object.
+		 * Splits the given source into elements that consist of more than dots. Literal delimiters are processed in a
+		 * single pass, delimiters containing regular expression meta characters are still applied as regular expression.
 		 *
-		 * @param callback block to be executed.
+		 * @param source must not be {@literal null}.
+		 * @param delimiter must not be {@literal null}.
+		 * @return
 		 */
-		public void forEachOrder(Consumer<? super Order> callback) {
+		private static List<String> split(String source, String delimiter) {
 
-			for (int i = 0; i < lastIndex; i++) {
-				toOrder(elements[i]).ifPresent(callback);
+			if (delimiter.isEmpty() || containsRegexMetaCharacter(delimiter)) {
+
+				List<String> elements = new ArrayList<>();
+
+				for (String element : source.split(delimiter)) {
+					if (notOnlyDots(element)) {
+						elements.add(element);
+					}
+				}
+
+				return elements;
+			}
+
+			List<String> elements = new ArrayList<>(4);
+			int start = 0;
+			int index;
+
+			while ((index = source.indexOf(delimiter, start)) != -1) {
+				addIfNotOnlyDots(source, start, index, elements);
+				start = index + delimiter.length();
 			}
+
+			addIfNotOnlyDots(source, start, source.length(), elements);
+
+			return elements;
 		}
 
-		private Optional<Boolean> fromOptionalString(String value) {
-			return IGNORECASE.equalsIgnoreCase(value) ? Optional.of(true) : Optional.empty();
+		private static void addIfNotOnlyDots(String source, int start, int end, List<String> elements) {
+
+			if (notOnlyDots(source, start, end)) {
+				elements.add(source.substring(start, end));
+			}
 		}
 
-		private Optional<Order> toOrder(String property) {
+		private static boolean containsRegexMetaCharacter(String delimiter) {
 
-			if (!StringUtils.hasText(property)) {
-				return Optional.empty();
+			for (int i = 0; i < delimiter.length(); i++) {
+				if (REGEX_META_CHARACTERS.indexOf(delimiter.charAt(i)) != -1) {
+					return true;
+				}
 			}
 
-			Order order = direction.map(it -> new Order(it, property)).orElseGet(() -> Order.by(property));
+			return false;
+		}
+
+		@Nullable
+		private static Direction toDirection(String value) {
 
-			if (ignoreCase.isPresent()) {
-				return Optional.of(order.ignoreCase());
+			if ("asc".equalsIgnoreCase(value)) {
+				return Direction.ASC;
 			}
 
-			return Optional.of(order);
+			return "desc".equalsIgnoreCase(value) ? Direction.DESC : null;
 		}
 	}
 }
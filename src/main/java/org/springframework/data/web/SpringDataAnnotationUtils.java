@@ -18,6 +18,8 @@ package org.springframework.data.web;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,6 +29,7 @@ import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -38,6 +41,8 @@ import org.springframework.util.ObjectUtils;
  */
 abstract class SpringDataAnnotationUtils {
 
+	private static final Map<MethodParameter, Optional<String>> QUALIFIERS = new ConcurrentReferenceHashMap<>();
+
 	private SpringDataAnnotationUtils() {}
 
 	/**
@@ -122,10 +127,13 @@ abstract class SpringDataAnnotationUtils {
 			return null;
 		}
 
-		MergedAnnotations annotations = MergedAnnotations.from(parameter.getParameter());
-		MergedAnnotation<Qualifier> qualifier = annotations.get(Qualifier.class);
+		return QUALIFIERS.computeIfAbsent(parameter, it -> {
+
+			MergedAnnotations annotations = MergedAnnotations.from(it.getParameter());
+			MergedAnnotation<Qualifier> qualifier = annotations.get(Qualifier.class);
 
-		return qualifier.isPresent() ? qualifier.getString("value") : null;
+			return qualifier.isPresent() ? Optional.of(qualifier.getString("value")) : Optional.empty();
+		}).orElse(null);
 	}
 
 	/**
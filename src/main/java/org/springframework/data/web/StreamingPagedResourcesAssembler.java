@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes a {@link Page} as HAL document directly to a {@link JsonGenerator} without materializing a
+ * {@link org.springframework.hateoas.PagedModel} and an {@link org.springframework.hateoas.EntityModel} per element
+ * upfront. Page metadata and pagination links are rendered the same way as {@link PagedResourcesAssembler} does
+ * (reusing its link creation), elements are written one by one as they are consumed from the content
+ * {@link Stream}.
+ * <p>
+ * Elements are written through {@link JsonGenerator#writeObject(Object)}, so the {@link JsonGenerator} must be
+ * configured with an {@link com.fasterxml.jackson.core.ObjectCodec}.
+ *
+ * @since 3.0
+ * @see PagedResourcesAssembler
+ */
+public class StreamingPagedResourcesAssembler<T> {
+
+	private final PagedResourcesAssembler<T> assembler;
+
+	/**
+	 * Creates a new {@link StreamingPagedResourcesAssembler} using the given {@link PagedResourcesAssembler} to create
+	 * pagination links and page metadata.
+	 *
+	 * @param assembler must not be {@literal null}.
+	 */
+	public StreamingPagedResourcesAssembler(PagedResourcesAssembler<T> assembler) {
+
+		Assert.notNull(assembler, "PagedResourcesAssembler must not be null!");
+
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Writes the given {@link Page} with its elements embedded under the given {@link LinkRelation}.
+	 *
+	 * @param page must not be {@literal null}.
+	 * @param relation must not be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void write(Page<T> page, LinkRelation relation, JsonGenerator generator) throws IOException {
+		write(page, page.get(), Function.identity(), relation, null, generator);
+	}
+
+	/**
+	 * Writes the given {@link Page} with its elements converted using the given {@link Function} and embedded under the
+	 * given {@link LinkRelation}.
+	 *
+	 * @param page must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param relation must not be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void write(Page<T> page, Function<? super T, ?> converter, LinkRelation relation, JsonGenerator generator)
+			throws IOException {
+		write(page, page.get(), converter, relation, null, generator);
+	}
+
+	/**
+	 * Writes a HAL document using the given {@link Page} for page metadata and pagination links and the given
+	 * {@link Stream} for the embedded elements. The {@link Stream} is consumed element by element and closed once all
+	 * elements were written.
+	 *
+	 * @param page must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param relation must not be {@literal null}.
+	 * @param selfLink can be {@literal null}. If {@literal null}, the base URI of the {@link PagedResourcesAssembler} or
+	 *          the current request is used to create the pagination links.
+	 * @param generator must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public <S> void write(Page<?> page, Stream<S> content, Function<? super S, ?> converter, LinkRelation relation,
+			@Nullable Link selfLink, JsonGenerator generator) throws IOException {
+
+		Assert.notNull(page, "Page must not be null!");
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(converter, "Converter must not be null!");
+		Assert.notNull(relation, "LinkRelation must not be null!");
+		Assert.notNull(generator, "JsonGenerator must not be null!");
+
+		generator.writeStartObject();
+
+		generator.writeObjectFieldStart("_embedded");
+		generator.writeArrayFieldStart(relation.value());
+
+		try (Stream<S> stream = content) {
+
+			Iterator<S> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+				generator.writeObject(converter.apply(iterator.next()));
+			}
+		}
+
+		generator.writeEndArray();
+		generator.writeEndObject();
+
+		writeLinks(page, selfLink, generator);
+		writePageMetadata(assembler.asPageMetadata(page), generator);
+
+		generator.writeEndObject();
+	}
+
+	private void writeLinks(Page<?> page, @Nullable Link selfLink, JsonGenerator generator) throws IOException {
+
+		generator.writeObjectFieldStart("_links");
+
+		for (Link link : assembler.getPaginationLinks(page, Optional.ofNullable(selfLink))) {
+
+			generator.writeObjectFieldStart(link.getRel().value());
+			generator.writeStringField("href", link.getHref());
+
+			if (link.isTemplated()) {
+				generator.writeBooleanField("templated", true);
+			}
+
+			generator.writeEndObject();
+		}
+
+		generator.writeEndObject();
+	}
+
+	private static void writePageMetadata(PageMetadata metadata, JsonGenerator generator) throws IOException {
+
+		generator.writeObjectFieldStart("page");
+		generator.writeNumberField("size", metadata.getSize());
+		generator.writeNumberField("totalElements", metadata.getTotalElements());
+		generator.writeNumberField("totalPages", metadata.getTotalPages());
+		generator.writeNumberField("number", metadata.getNumber());
+		generator.writeEndObject();
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.web.querydsl;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.core.MethodParameter;
@@ -33,6 +34,7 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 
@@ -56,6 +58,9 @@ public abstract class QuerydslPredicateArgumentResolverSupport {
 	protected final QuerydslBindingsFactory bindingsFactory;
 	protected final QuerydslPredicateBuilder predicateBuilder;
 
+	private final Map<MethodParameter, BindingsContext> bindingsCache = new ConcurrentReferenceHashMap<>();
+	private @Nullable QuerydslPredicateCache predicateCache;
+
 	/**
 	 * Creates a new {@link QuerydslPredicateArgumentResolver} using the given {@link ConversionService}.
 	 *
@@ -72,6 +77,18 @@ public abstract class QuerydslPredicateArgumentResolverSupport {
 		this.predicateBuilder = new QuerydslPredicateBuilder(conversionService, factory.getEntityPathResolver());
 	}
 
+	/**
+	 * Configures the {@link QuerydslPredicateCache} to use for caching resolved {@link Predicate}s. Predicate caching is
+	 * disabled by default.
+	 *
+	 * @param predicateCache can be {@literal null} to disable caching.
+	 * @since 3.0
+	 * @see QuerydslPredicateCache
+	 */
+	public void setPredicateCache(@Nullable QuerydslPredicateCache predicateCache) {
+		this.predicateCache = predicateCache;
+	}
+
 	public boolean supportsParameter(MethodParameter parameter) {
 
 		ResolvableType type = ResolvableType.forMethodParameter(parameter);
@@ -92,6 +109,25 @@ public abstract class QuerydslPredicateArgumentResolverSupport {
 
 	Predicate getPredicate(MethodParameter parameter, MultiValueMap<String, String> queryParameters) {
 
+		BindingsContext context = bindingsCache.computeIfAbsent(parameter, this::createBindingsContext);
+
+		if (predicateCache != null) {
+			return predicateCache.getPredicate(predicateBuilder, context.getDomainType(), queryParameters,
+					context.getBindings());
+		}
+
+		return predicateBuilder.getPredicate(context.getDomainType(), queryParameters, context.getBindings());
+	}
+
+	/**
+	 * Creates the {@link QuerydslBindings} for the given {@link MethodParameter}. Bindings are created once per handler
+	 * method parameter so that the {@link QuerydslPredicateBuilder} can reuse the binding plan it compiles for them.
+	 *
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	private BindingsContext createBindingsContext(MethodParameter parameter) {
+
 		MergedAnnotations annotations = MergedAnnotations.from(parameter.getParameter());
 		MergedAnnotation<QuerydslPredicate> predicateAnnotation = annotations.get(QuerydslPredicate.class);
 
@@ -104,7 +140,7 @@ public abstract class QuerydslPredicateArgumentResolverSupport {
 				.map(it -> bindingsFactory.createBindingsFor(domainType, it)) //
 				.orElseGet(() -> bindingsFactory.createBindingsFor(domainType));
 
-		return predicateBuilder.getPredicate(domainType, queryParameters, bindings);
+		return new BindingsContext(domainType, bindings);
 	}
 
 	@Nullable
@@ -172,4 +208,24 @@ public abstract class QuerydslPredicateArgumentResolverSupport {
 		return detectDomainType(source.getRequiredComponentType());
 	}
 
+	private static class BindingsContext {
+
+		private final TypeInformation<?> domainType;
+		private final QuerydslBindings bindings;
+
+		BindingsContext(TypeInformation<?> domainType, QuerydslBindings bindings) {
+
+			this.domainType = domainType;
+			this.bindings = bindings;
+		}
+
+		TypeInformation<?> getDomainType() {
+			return domainType;
+		}
+
+		QuerydslBindings getBindings() {
+			return bindings;
+		}
+	}
+
 }
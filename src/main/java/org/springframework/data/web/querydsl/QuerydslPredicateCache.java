@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web.querydsl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Bounded cache for {@link Predicate}s created by {@link QuerydslPredicateArgumentResolverSupport}. Predicates are
+ * cached by the {@link QuerydslBindings} instance, the domain type and the request parameters, normalized to be
+ * independent of their order and excluding parameters submitted without a value. Repeated requests using the same
+ * filter thus skip parameter conversion and predicate construction.
+ * <p>
+ * Caching is only safe if the configured bindings create the same {@link Predicate} for the same input, i.e. they
+ * must not depend on state other than the given values (such as the current time or the current user). Hence, caching
+ * is not enabled by default, but has to be activated by registering a cache instance via
+ * {@link QuerydslPredicateArgumentResolverSupport#setPredicateCache(QuerydslPredicateCache)}.
+ *
+ * @since 3.0
+ */
+public class QuerydslPredicateCache {
+
+	/**
+	 * The default number of predicates to cache.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<CacheKey, Predicate> cache;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a new {@link QuerydslPredicateCache} holding up to {@link #DEFAULT_CACHE_LIMIT} predicates.
+	 */
+	public QuerydslPredicateCache() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link QuerydslPredicateCache} holding up to the given number of predicates.
+	 *
+	 * @param cacheLimit must be greater than zero.
+	 */
+	public QuerydslPredicateCache(int cacheLimit) {
+
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than zero!");
+
+		this.cache = new ConcurrentLruCache<>(cacheLimit, this::createPredicate);
+	}
+
+	/**
+	 * Returns the {@link Predicate} for the given values, either from the cache or by creating it through the given
+	 * {@link QuerydslPredicateBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param bindings must not be {@literal null}.
+	 * @return
+	 */
+	Predicate getPredicate(QuerydslPredicateBuilder builder, TypeInformation<?> type, MultiValueMap<String, String> values,
+			QuerydslBindings bindings) {
+
+		requests.increment();
+
+		Predicate predicate = cache.get(new CacheKey(builder, type, bindings, normalize(builder, type, values, bindings)));
+
+		// BooleanBuilder is mutable so we must not hand out the cached instance
+		return QuerydslPredicateBuilder.isEmpty(predicate) ? new BooleanBuilder() : predicate;
+	}
+
+	/**
+	 * Returns the number of predicates currently cached.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the maximum number of predicates to cache.
+	 *
+	 * @return
+	 */
+	public int getCacheLimit() {
+		return cache.capacity();
+	}
+
+	/**
+	 * Returns the number of lookups that were served from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return Math.max(0, requests.sum() - misses.sum());
+	}
+
+	/**
+	 * Returns the number of lookups that required a {@link Predicate} to be created.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Removes all cached predicates. Does not reset the hit and miss counts.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	private Predicate createPredicate(CacheKey key) {
+
+		misses.increment();
+
+		return key.builder.getPredicate(key.type, key.values, key.bindings);
+	}
+
+	/**
+	 * Reduces the given values to the ones contributing to the {@link Predicate}, so that parameters not bound to the
+	 * {@link Predicate} (e.g. paging parameters or cache busters) do not result in separate cache entries.
+	 */
+	private static MultiValueMap<String, String> normalize(QuerydslPredicateBuilder builder, TypeInformation<?> type,
+			MultiValueMap<String, String> values, QuerydslBindings bindings) {
+
+		Map<String, List<String>> normalized = new TreeMap<>();
+
+		for (var entry : values.entrySet()) {
+
+			List<String> value = entry.getValue();
+
+			if (value.isEmpty() || (value.size() == 1 && ObjectUtils.isEmpty(value.get(0)))) {
+				continue;
+			}
+
+			if (!builder.isBindable(type, entry.getKey(), bindings)) {
+				continue;
+			}
+
+			normalized.put(entry.getKey(), new ArrayList<>(value));
+		}
+
+		return CollectionUtils.toMultiValueMap(normalized);
+	}
+
+	private static final class CacheKey {
+
+		private final QuerydslPredicateBuilder builder;
+		private final TypeInformation<?> type;
+		private final QuerydslBindings bindings;
+		private final MultiValueMap<String, String> values;
+		private final int hashCode;
+
+		CacheKey(QuerydslPredicateBuilder builder, TypeInformation<?> type, QuerydslBindings bindings,
+				MultiValueMap<String, String> values) {
+
+			this.builder = builder;
+			this.type = type;
+			this.bindings = bindings;
+			this.values = values;
+			this.hashCode = computeHashCode();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return builder == that.builder && bindings == that.bindings && type.equals(that.type)
+					&& values.equals(that.values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private int computeHashCode() {
+
+			int result = System.identityHashCode(builder);
+			result = 31 * result + System.identityHashCode(bindings);
+			result = 31 * result + type.hashCode();
+			result = 31 * result + values.hashCode();
+			return result;
+		}
+	}
+}
@@ -178,6 +178,42 @@ class AuditingHandlerUnitTests {
 		assertThat(result.modified).isNotNull();
 	}
 
+	@Test
+	void marksAllEntitiesObtainingAuditorAndDateOnce() {
+
+		var provider = mock(DateTimeProvider.class);
+		doReturn(Optional.of(Instant.now())).when(provider).getNow();
+
+		handler.setDateTimeProvider(provider);
+		handler.setAuditorAware(auditorAware);
+
+		var first = new AuditedUser();
+		var second = new AuditedUser();
+
+		assertThat(handler.markCreatedAll(List.of(first, second))).containsExactly(first, second);
+
+		assertThat(first.getCreatedBy()).contains(user);
+		assertThat(second.getCreatedBy()).contains(user);
+		assertThat(first.getCreatedDate()).isEqualTo(second.getCreatedDate()).isPresent();
+
+		verify(auditorAware, times(1)).getCurrentAuditor();
+		verify(provider, times(1)).getNow();
+	}
+
+	@Test
+	void marksAllEntitiesModified() {
+
+		handler.setAuditorAware(auditorAware);
+
+		var audited = new AuditedUser();
+
+		assertThat(handler.markModifiedAll(List.of(audited))).containsExactly(audited);
+
+		assertThat(audited.getCreatedBy()).isNotPresent();
+		assertThat(audited.getLastModifiedBy()).contains(user);
+		assertThat(audited.getLastModifiedDate()).isPresent();
+	}
+
 	@Test // DATACMNS-1231
 	void getAuditorGetsAuditorNoneWhenNoAuditorAwareNotPresent() {
 		assertThat(handler.getAuditor()).isEqualTo(Auditor.none());
@@ -18,6 +18,7 @@ package org.springframework.data.auditing;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -79,6 +80,23 @@ class IsNewAwareAuditingHandlerUnitTests extends AuditingHandlerUnitTests {
 		assertThat(user.modifiedDate).isNotNull();
 	}
 
+	@Test
+	void marksAllEntitiesCreatedOrModifiedPerEntity() {
+
+		var created = new AuditedUser();
+		var modified = new AuditedUser();
+		modified.id = 1L;
+		var other = new EntityWithoutId();
+
+		assertThat(getHandler().markAuditedAll(List.<Object> of(created, modified, other))).containsExactly(created,
+				modified, other);
+
+		assertThat(created.createdDate).isNotNull();
+		assertThat(created.modifiedDate).isNotNull();
+		assertThat(modified.createdDate).isNull();
+		assertThat(modified.modifiedDate).isNotNull();
+	}
+
 	@Test // DATACMNS-365
 	void rejectsNullMappingContext() {
 		assertThatIllegalArgumentException().isThrownBy(() -> new IsNewAwareAuditingHandler((PersistentEntities) null));
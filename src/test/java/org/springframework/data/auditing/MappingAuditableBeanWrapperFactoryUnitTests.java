@@ -242,6 +242,44 @@ class MappingAuditableBeanWrapperFactoryUnitTests {
 		});
 	}
 
+	@Test
+	void convertsDatesIntoPropertyTypes() {
+
+		var instant = Instant.parse("2022-01-01T10:15:30.00Z");
+		var localDateTime = LocalDateTime.ofInstant(instant, ZoneOffset.systemDefault());
+
+		for (TemporalAccessor now : Arrays.asList(localDateTime, instant, localDateTime)) {
+
+			var sample = new SampleWithLegacyDates();
+
+			assertThat(factory.getBeanWrapperFor(sample)).hasValueSatisfying(it -> {
+
+				it.setCreatedDate(now);
+				it.setLastModifiedDate(now);
+			});
+
+			assertThat(sample.created).isEqualTo(Date.from(instant));
+			assertThat(sample.modified).isEqualTo(instant.toEpochMilli());
+		}
+	}
+
+	@Test
+	void bindsWrappersCreatedFromCachedMetadataToTheirBean() {
+
+		var first = new SampleWithInstant();
+		var second = new SampleWithInstant();
+
+		factory.getBeanWrapperFor(first).ifPresent(it -> it.setCreatedDate(Instant.now()));
+		factory.getBeanWrapperFor(second).ifPresent(it -> it.setLastModifiedDate(Instant.now()));
+
+		assertThat(first.created).isNotNull();
+		assertThat(first.modified).isNull();
+		assertThat(second.created).isNull();
+		assertThat(second.modified).isNotNull();
+		assertThat(factory.getBeanWrapperFor(new NoAuditing())).isNotPresent();
+		assertThat(factory.getBeanWrapperFor(new NoAuditing())).isNotPresent();
+	}
+
 	private void assertLastModificationDate(Object source, TemporalAccessor expected) {
 
 		var sample = new Sample();
@@ -288,6 +326,12 @@ class MappingAuditableBeanWrapperFactoryUnitTests {
 		@LastModifiedDate Instant modified;
 	}
 
+	static class SampleWithLegacyDates {
+
+		@CreatedDate Date created;
+		@LastModifiedDate Long modified;
+	}
+
 	static class NoAuditing {}
 
 	static abstract class ExtendingAuditable implements Auditable<Object, Long, LocalDateTime> {}
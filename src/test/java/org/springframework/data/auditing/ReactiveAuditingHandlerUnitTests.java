@@ -23,6 +23,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -96,6 +97,28 @@ class ReactiveAuditingHandlerUnitTests {
 		verify(auditorAware).getCurrentAuditor();
 	}
 
+	@Test
+	void markCreatedAllObtainsAuditorOnce() {
+
+		ReactiveAuditorAware<String> names = mock(ReactiveAuditorAware.class);
+		when(names.getCurrentAuditor()).thenReturn(Mono.just("Walter"));
+
+		handler.setAuditorAware(names);
+
+		handler.markCreatedAll(List.of(new Immutable(null, null, null, null), new Immutable(null, null, null, null)))
+				.as(StepVerifier::create).consumeNextWith(actual -> {
+
+					assertThat(actual).hasSize(2).allSatisfy(it -> {
+						assertThat(it.getCreatedBy()).isEqualTo("Walter");
+						assertThat(it.getCreatedDate()).isNotNull();
+					});
+
+					assertThat(actual.get(0).getCreatedDate()).isEqualTo(actual.get(1).getCreatedDate());
+				}).verifyComplete();
+
+		verify(names, times(1)).getCurrentAuditor();
+	}
+
 	@Value
 	static class Immutable {
 
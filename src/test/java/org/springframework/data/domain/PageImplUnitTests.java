@@ -24,6 +24,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Unit test for {@link PageImpl}.
  *
@@ -194,4 +196,31 @@ class PageImplUnitTests {
 		assertThat(page).hasToString("Page 1 of 1 containing UNKNOWN instances");
 	}
 
+	@Test
+	void exposesApproximateTotal() {
+
+		Page<Integer> page = new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100, true);
+
+		assertThat(page.hasApproximateTotal()).isTrue();
+		assertThat(page.map(it -> it * 2).hasApproximateTotal()).isTrue();
+		assertThat(new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100).hasApproximateTotal()).isFalse();
+	}
+
+	@Test
+	void doesNotRenderApproximateTotalWithJackson() throws Exception {
+
+		var page = new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100, true);
+
+		assertThat(new ObjectMapper().writeValueAsString(page)).doesNotContainIgnoringCase("approximate");
+	}
+
+	@Test
+	void considersApproximateTotalForEquality() {
+
+		Page<Integer> exact = new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100);
+		Page<Integer> approximate = new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100, true);
+
+		assertThat(exact).isNotEqualTo(approximate);
+		assertThat(approximate).isEqualTo(new PageImpl<>(Arrays.asList(1, 2), PageRequest.of(0, 2), 100, true));
+	}
 }
@@ -20,7 +20,10 @@ import static org.springframework.data.domain.Sort.NullHandling.*;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Sort.Direction;
@@ -201,6 +204,80 @@ class SortUnitTests {
 				.containsExactly(Order.by("center"), Order.by("radius"));
 	}
 
+	@Test
+	void sharesInstancesWhenCombiningWithUnsorted() {
+
+		var sort = Sort.by("foo");
+
+		assertThat(sort.and(Sort.unsorted())).isSameAs(sort);
+		assertThat(Sort.unsorted().and(sort)).isSameAs(sort);
+		assertThat(sort.and(Sort.by("bar"))).containsExactly(Order.by("foo"), Order.by("bar"));
+	}
+
+	@Test
+	void isNotAffectedByChangesToSourceList() {
+
+		var orders = new ArrayList<>(List.of(Order.by("foo")));
+		var sort = Sort.by(orders);
+		var hashCode = sort.hashCode();
+
+		orders.add(Order.by("bar"));
+
+		assertThat(sort).containsExactly(Order.by("foo"));
+		assertThat(sort.hashCode()).isEqualTo(hashCode);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> sort.toList().add(Order.by("bar")));
+	}
+
+	@Test
+	void returnsCanonicalInstances() {
+
+		var sort = Sort.canonical(Sort.by("foo", "bar").descending());
+
+		assertThat(Sort.canonical(Sort.by(Direction.DESC, "foo", "bar"))).isSameAs(sort);
+		assertThat(Sort.canonical(Sort.by(new Order[0]))).isSameAs(Sort.unsorted());
+		assertThat(Sort.canonical(Sort.by("foo"))).isNotSameAs(sort);
+	}
+
+	@Test
+	void typedSortIsEqualToPlainSort() {
+
+		var typed = Sort.sort(Sample.class).by(Sample::getNested).by(Nested::getFirstname);
+		var plain = Sort.by("nested.firstname");
+
+		assertThat(typed).isEqualTo(plain);
+		assertThat(typed.hashCode()).isEqualTo(plain.hashCode());
+		assertThat(Sort.sort(Sample.class).hashCode()).isEqualTo(Sort.unsorted().hashCode());
+	}
+
+	@Test
+	void typedSortIsNotAffectedByFurtherRecordings() {
+
+		var nested = Sort.sort(Sample.class).by(Sample::getNested);
+		var firstname = nested.by(Nested::getFirstname);
+
+		assertThat(nested).containsExactly(Order.by("nested"));
+		assertThat(firstname).containsExactly(Order.by("nested.firstname"));
+		assertThat(Sort.sort(Sample.class).by(Sample::getNested).descending())
+				.containsExactly(Order.desc("nested"));
+	}
+
+	@Test
+	void typedSortAppliesEachRecordedFunctionOnlyOnce() {
+
+		var invocations = new AtomicInteger();
+
+		var sort = Sort.sort(Sample.class).by((Sample it) -> {
+			invocations.incrementAndGet();
+			return it.getNested();
+		}).by(Nested::getFirstname);
+
+		assertThat(sort).containsExactly(Order.by("nested.firstname"));
+		assertThat(sort.descending()).containsExactly(Order.desc("nested.firstname"));
+		assertThat(sort.isEmpty()).isFalse();
+		assertThat(invocations).hasValue(1);
+	}
+
 	@Getter
 	static class Sample {
 		Nested nested;
@@ -181,6 +181,113 @@ class DefaultEntityCallbacksUnitTests {
 		assertThat(ctx.getBean("callbacks", MultipleCallbacks.class).invocations).containsExactly("save", "convert");
 	}
 
+	@Test
+	void resolvesCallbackMethodPerNumberOfArguments() {
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(new OverloadedCallback());
+
+		Person withoutArgs = callbacks.callback(OverloadedCallback.class, new PersonDocument(null, "Walter", null));
+		Person withArgs = callbacks.callback(OverloadedCallback.class, new PersonDocument(null, "Walter", null), "Jesse");
+
+		assertThat(withoutArgs.getFirstName()).isEqualTo("Walter");
+		assertThat(withArgs.getFirstName()).isEqualTo("Jesse");
+	}
+
+	@Test
+	void reusesCallbackChainAcrossInvocations() {
+
+		CapturingEntityCallback first = new FirstCallback();
+		CapturingEntityCallback second = new SecondCallback();
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(first);
+
+		callbacks.callback(CapturingEntityCallback.class, new PersonDocument(null, "Walter", null));
+		callbacks.addEntityCallback(second);
+		callbacks.callback(CapturingEntityCallback.class, new PersonDocument(null, "Walter", null));
+
+		assertThat(first.capturedValues()).hasSize(2);
+		assertThat(second.capturedValues()).hasSize(1);
+	}
+
+	@Test
+	void invokesBatchCallbackOncePerBatch() {
+
+		BatchingBeforeSaveCallback batching = new BatchingBeforeSaveCallback();
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(batching);
+		callbacks.addEntityCallback(new MyBeforeSaveCallback());
+
+		List<Person> result = callbacks.callbackAll(BeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null), new PersonDocument(null, "Jesse", null)));
+
+		assertThat(result).extracting(Person::getFirstName).containsExactly("Walter", "Jesse");
+		assertThat(result).extracting(Person::getSsn).containsExactly(6, 5);
+		assertThat(batching.batches).containsExactly(2);
+		assertThat(batching.invocations).isZero();
+
+		callbacks.callback(BeforeSaveCallback.class, new PersonDocument(null, "Walter", null));
+
+		assertThat(batching.batches).containsExactly(2);
+		assertThat(batching.invocations).isOne();
+	}
+
+	@Test
+	void invokesBatchCallbacksPerEntityTypeRetainingOrder() {
+
+		BatchingBeforeSaveCallback batching = new BatchingBeforeSaveCallback();
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(batching);
+
+		User user = new User();
+		List<Object> result = callbacks.callbackAll(BeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null), user, new PersonDocument(null, "Jesse", null)));
+
+		assertThat(result).hasSize(3);
+		assertThat(result.get(0)).isInstanceOf(Person.class);
+		assertThat(result.get(1)).isSameAs(user);
+		assertThat(result.get(2)).isInstanceOf(Person.class);
+		assertThat(batching.batches).containsExactly(2);
+	}
+
+	@Test
+	void invokesBatchCallbacksOncePerEntityClass() {
+
+		BatchingBeforeSaveCallback batching = new BatchingBeforeSaveCallback();
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(batching);
+
+		List<Person> result = callbacks.callbackAll(BeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null), new PersonNoId(null, "Skyler", null),
+						new PersonDocument(null, "Jesse", null)));
+
+		assertThat(result).extracting(Person::getFirstName).containsExactly("Walter", "Skyler", "Jesse");
+		assertThat(batching.batches).containsExactly(2, 1);
+	}
+
+	@Test
+	void callbackAllOnEmptyListReturnsEmptyList() {
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(new BatchingBeforeSaveCallback());
+
+		assertThat(callbacks.callbackAll(BeforeSaveCallback.class, List.of())).isEmpty();
+	}
+
+	@Test
+	void rejectsBatchCallbackResultOfDifferentSize() {
+
+		var callbacks = new DefaultEntityCallbacks();
+		callbacks.addEntityCallback(new TruncatingBatchCallback());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> callbacks.callbackAll(BeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null), new PersonDocument(null, "Jesse", null))));
+	}
+
 	@Configuration
 	static class MyConfig {
 
@@ -256,6 +363,39 @@ class DefaultEntityCallbacksUnitTests {
 
 	static class User {}
 
+	static class BatchingBeforeSaveCallback implements BeforeSaveCallback<Person>, BatchEntityCallback<Person> {
+
+		List<Integer> batches = new ArrayList<>();
+		int invocations;
+
+		@Override
+		public Person onBeforeSave(Person object) {
+
+			invocations++;
+			return object;
+		}
+
+		@Override
+		public List<Person> onBatch(Class<? extends EntityCallback> callbackType, List<Person> entities, Object... args) {
+
+			batches.add(entities.size());
+			return entities;
+		}
+	}
+
+	static class TruncatingBatchCallback implements BeforeSaveCallback<Person>, BatchEntityCallback<Person> {
+
+		@Override
+		public Person onBeforeSave(Person object) {
+			return object;
+		}
+
+		@Override
+		public List<Person> onBatch(Class<? extends EntityCallback> callbackType, List<Person> entities, Object... args) {
+			return entities.subList(0, 1);
+		}
+	}
+
 	static class GenericPersonCallback implements EntityCallback<Person> {
 
 		public Person onBeforeSave(Person value) {
@@ -281,6 +421,19 @@ class DefaultEntityCallbacksUnitTests {
 		}
 	}
 
+	static class OverloadedCallback implements EntityCallback<Person> {
+
+		public Person onBeforeSave(Person value) {
+			return value;
+		}
+
+		public Person onBeforeSave(Person value, String firstname) {
+
+			value.setFirstName(firstname);
+			return value;
+		}
+	}
+
 	static class MultipleCallbacks implements BeforeConvertCallback<Person>, BeforeSaveCallback<Person> {
 
 		List<String> invocations = new ArrayList(2);
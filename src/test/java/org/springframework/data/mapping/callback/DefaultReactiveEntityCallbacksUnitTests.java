@@ -20,7 +20,12 @@ import static org.assertj.core.api.Assertions.*;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -124,6 +129,46 @@ class DefaultReactiveEntityCallbacksUnitTests {
 		assertThat(third.capturedValues()).isEmpty();
 	}
 
+	@Test
+	void invokesReactiveBatchCallbackOncePerBatch() {
+
+		ReactiveBatchingBeforeSaveCallback batching = new ReactiveBatchingBeforeSaveCallback();
+
+		var callbacks = new DefaultReactiveEntityCallbacks();
+		callbacks.addEntityCallback(batching);
+		callbacks.addEntityCallback(new MyReactiveBeforeSaveCallback());
+
+		callbacks.callbackAll(ReactiveBeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null), new PersonDocument(null, "Jesse", null))) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual).extracting(Person::getFirstName).containsExactly("Walter", "Jesse");
+					assertThat(actual).extracting(Person::getSsn).containsExactly(6, 5);
+				}).verifyComplete();
+
+		assertThat(batching.batches).containsExactly(2);
+		assertThat(batching.invocations).isZero();
+	}
+
+	@Test
+	void callbackAllResolvesOnSubscribe() {
+
+		ReactiveBatchingBeforeSaveCallback batching = new ReactiveBatchingBeforeSaveCallback();
+
+		var callbacks = new DefaultReactiveEntityCallbacks();
+		callbacks.addEntityCallback(batching);
+
+		Mono<List<Person>> result = callbacks.callbackAll(ReactiveBeforeSaveCallback.class,
+				List.of(new PersonDocument(null, "Walter", null)));
+
+		assertThat(batching.batches).isEmpty();
+
+		result.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(batching.batches).containsExactly(1);
+	}
+
 	@Configuration
 	static class MyConfig {
 
@@ -150,6 +195,31 @@ class DefaultReactiveEntityCallbacksUnitTests {
 		}
 	}
 
+	static class ReactiveBatchingBeforeSaveCallback
+			implements ReactiveBeforeSaveCallback<Person>, ReactiveBatchEntityCallback<Person> {
+
+		List<Integer> batches = new ArrayList<>();
+		int invocations;
+
+		@Override
+		public Mono<Person> onBeforeSave(Person object) {
+
+			invocations++;
+			return Mono.just(object);
+		}
+
+		@Override
+		public Publisher<List<Person>> onBatch(Class<? extends EntityCallback> callbackType, List<Person> entities,
+				Object... args) {
+
+			return Mono.fromSupplier(() -> {
+
+				batches.add(entities.size());
+				return entities;
+			});
+		}
+	}
+
 	static class GenericPersonCallback implements EntityCallback<Person> {
 
 		public Person onBeforeSave(Person value) {
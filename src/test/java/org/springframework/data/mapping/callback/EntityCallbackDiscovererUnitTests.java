@@ -17,10 +17,13 @@ package org.springframework.data.mapping.callback;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -30,6 +33,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.Order;
@@ -158,6 +162,117 @@ class EntityCallbackDiscovererUnitTests {
 				ctx.getBean("callback4", EntityCallback.class));
 	}
 
+	@Test
+	void cachesCallbackChainUntilCallbacksChange() {
+
+		var discoverer = new EntityCallbackDiscoverer();
+		var first = new MyBeforeSaveCallback();
+		discoverer.addEntityCallback(first);
+
+		var chain = discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]);
+
+		assertThat(chain.size()).isOne();
+		assertThat(chain.<Person> getCallback(0)).isSameAs(first);
+		assertThat(discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]))
+				.isSameAs(chain);
+
+		discoverer.addEntityCallback(new MyOtherCallback());
+
+		var updated = discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]);
+
+		assertThat(updated).isNotSameAs(chain);
+		assertThat(updated.size()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotCacheCallbackChainForPrototypeCallbacks() {
+
+		var ctx = new AnnotationConfigApplicationContext(PrototypeConfig.class);
+		var discoverer = new EntityCallbackDiscoverer(ctx);
+		discoverer.addEntityCallbackBean("prototypeCallback");
+
+		var first = discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]);
+		var second = discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]);
+
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	void dropsCachedRetrieversOnRemoval() {
+
+		var discoverer = new EntityCallbackDiscoverer();
+		var callback = new MyBeforeSaveCallback();
+		discoverer.addEntityCallback(callback);
+
+		Collection<EntityCallback<Person>> callbacks = discoverer.getEntityCallbacks(PersonDocument.class,
+				ResolvableType.forClass(BeforeSaveCallback.class));
+
+		assertThat(callbacks).containsExactly(callback);
+
+		discoverer.removeEntityCallback(callback);
+
+		assertThat(discoverer.getEntityCallbacks(PersonDocument.class, ResolvableType.forClass(BeforeSaveCallback.class)))
+				.isEmpty();
+		assertThat(discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]).size())
+				.isZero();
+	}
+
+	@Test
+	void resolvesCallbacksWhileRegisteringConcurrently() throws Exception {
+
+		var discoverer = new EntityCallbackDiscoverer();
+		var poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+		var executor = Executors.newFixedThreadPool(poolSize);
+		var startLatch = new CountDownLatch(1);
+
+		List<Exception> exceptions = new CopyOnWriteArrayList<>();
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (var i = 0; i < poolSize; i++) {
+
+			var register = i % 2 == 0;
+
+			futures.add(executor.submit(() -> {
+				try {
+					startLatch.await(5, TimeUnit.SECONDS);
+
+					for (var j = 0; j < 100; j++) {
+						if (register) {
+							discoverer.addEntityCallback(new MyBeforeSaveCallback());
+						} else {
+							discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]);
+						}
+					}
+				} catch (Exception ex) {
+					exceptions.add(ex);
+				}
+			}));
+		}
+
+		startLatch.countDown();
+
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+
+		executor.shutdownNow();
+
+		assertThat(exceptions).isEmpty();
+		assertThat(discoverer.getEntityCallbackChain(PersonDocument.class, BeforeSaveCallback.class, new Object[0]).size())
+				.isEqualTo((poolSize + 1) / 2 * 100);
+	}
+
+	@Configuration
+	static class PrototypeConfig {
+
+		@Bean
+		@Scope("prototype")
+		@Lazy
+		MyBeforeSaveCallback prototypeCallback() {
+			return new MyBeforeSaveCallback();
+		}
+	}
+
 	@Configuration
 	static class MyConfig {
 
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AccessLevel;
+import lombok.Value;
+import lombok.With;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentPropertyPath;
+
+/**
+ * Unit tests for {@link EntityChangeTracker}.
+ */
+class EntityChangeTrackerUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+	EntityChangeTracker<SamplePersistentProperty> tracker = new EntityChangeTracker<>(context);
+
+	@Test
+	void reportsNoChangesForUnmodifiedEntity() {
+
+		var snapshot = tracker.snapshot(new Person());
+
+		assertThat(snapshot.isDirty()).isFalse();
+		assertThat(snapshot.getChangedProperties()).isEmpty();
+	}
+
+	@Test
+	void detectsChangedPrimitiveAndSimpleProperties() {
+
+		var person = new Person();
+		var snapshot = tracker.snapshot(person);
+
+		person.age = 42;
+		person.score = 0.5;
+		person.active = true;
+		person.firstname = "Dave";
+
+		assertThat(snapshot.isDirty()).isTrue();
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("age", "score", "active", "firstname");
+	}
+
+	@Test
+	void comparesSimpleValuesByEquality() {
+
+		var person = new Person();
+		person.firstname = "Dave";
+
+		var snapshot = tracker.snapshot(person);
+
+		person.firstname = new String("Dave");
+
+		assertThat(snapshot.isDirty()).isFalse();
+	}
+
+	@Test
+	void detectsInPlaceModificationsOfMutableSimpleValues() {
+
+		var person = new Person();
+		person.birthday = new Date(0);
+		person.checkedAt = new Timestamp(0);
+		person.avatar = new byte[] { 1, 2 };
+
+		var snapshot = tracker.snapshot(person);
+
+		assertThat(snapshot.isDirty()).isFalse();
+
+		person.birthday.setTime(1000);
+		person.checkedAt.setNanos(42);
+		person.avatar[0] = 3;
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("birthday", "checkedAt", "avatar");
+	}
+
+	@Test
+	void reportsChangesWithinNestedEntities() {
+
+		var person = new Person();
+		person.address = new Address();
+
+		var snapshot = tracker.snapshot(person);
+
+		person.address.city = "Dresden";
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("address.city");
+	}
+
+	@Test
+	void reportsReplacedNestedEntity() {
+
+		var person = new Person();
+		person.address = new Address();
+
+		var snapshot = tracker.snapshot(person);
+
+		person.address = new Address();
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("address");
+	}
+
+	@Test
+	void reportsChangesWithinSubtypesOfNestedEntities() {
+
+		var person = new Person();
+		var address = new ZipAddress();
+		person.address = address;
+
+		var snapshot = tracker.snapshot(person);
+
+		address.zip = "01067";
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("address.zip");
+	}
+
+	@Test
+	void comparesCollectionsByReference() {
+
+		var person = new Person();
+		var snapshot = tracker.snapshot(person);
+
+		person.nicknames.add("Dave");
+
+		assertThat(snapshot.isDirty()).isFalse();
+
+		person.nicknames = new ArrayList<>();
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("nicknames");
+	}
+
+	@Test
+	void tracksCyclicReferences() {
+
+		var first = new Node();
+		var second = new Node();
+
+		first.next = second;
+		second.next = first;
+
+		var snapshot = tracker.snapshot(first);
+
+		second.name = "second";
+
+		assertThat(dotPaths(snapshot.getChangedProperties())).containsExactly("next.name");
+	}
+
+	@Test
+	void comparesSnapshotWithModifiedCopyOfImmutableEntity() {
+
+		var person = new ImmutablePerson(1L, "Dave", 42, new ImmutableAddress("Dresden", "01067"));
+		var snapshot = tracker.snapshot(person);
+
+		assertThat(snapshot.isDirty(person.withFirstname(new String("Dave")))).isFalse();
+
+		var modified = person.withAge(43).withAddress(person.getAddress().withZip("01069"));
+
+		assertThat(snapshot.isDirty(modified)).isTrue();
+		assertThat(dotPaths(snapshot.getChangedProperties(modified))).containsExactly("age", "address.zip");
+		assertThat(dotPaths(snapshot.getChangedProperties(modified.withAddress(null)))).containsExactly("age", "address");
+		assertThat(snapshot.isDirty()).isFalse();
+	}
+
+	@Test
+	void reportsNestedEntityOfDifferentTypeWhenComparingWithOtherInstance() {
+
+		var person = new Person();
+		person.address = new Address();
+
+		var snapshot = tracker.snapshot(person);
+
+		var copy = new Person();
+		copy.nicknames = person.nicknames;
+		copy.address = new Address();
+
+		assertThat(snapshot.isDirty(copy)).isFalse();
+
+		copy.address = new ZipAddress();
+
+		assertThat(dotPaths(snapshot.getChangedProperties(copy))).containsExactly("address");
+	}
+
+	@Test
+	void rejectsComparisonWithInstanceOfDifferentType() {
+
+		EntitySnapshot<Object, SamplePersistentProperty> snapshot = tracker.snapshot(new Person());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> snapshot.getChangedProperties(new Node()));
+	}
+
+	private static List<String> dotPaths(Set<? extends PersistentPropertyPath<?>> paths) {
+		return paths.stream().map(PersistentPropertyPath::toDotPath).collect(Collectors.toList());
+	}
+
+	static class Person {
+
+		@Id Long id;
+		int age;
+		double score;
+		boolean active;
+		String firstname;
+		Address address;
+		List<String> nicknames = new ArrayList<>();
+		Date birthday;
+		Timestamp checkedAt;
+		byte[] avatar;
+	}
+
+	static class Address {
+		String city;
+	}
+
+	static class ZipAddress extends Address {
+		String zip;
+	}
+
+	@Value
+	@With(AccessLevel.PACKAGE)
+	static class ImmutablePerson {
+
+		@Id Long id;
+		String firstname;
+		int age;
+		ImmutableAddress address;
+	}
+
+	@Value
+	@With(AccessLevel.PACKAGE)
+	static class ImmutableAddress {
+
+		String city;
+		String zip;
+	}
+
+	static class Node {
+
+		String name;
+		Node next;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * Unit tests for {@link EntityDiffer}.
+ */
+class EntityDifferUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+	EntityDiffer<SamplePersistentProperty> differ = new EntityDiffer<>(context);
+
+	@Test
+	void rejectsInstancesOfDifferentTypes() {
+		assertThatIllegalArgumentException().isThrownBy(() -> differ.diff(new Order(), new LineItem()));
+	}
+
+	@Test
+	void reportsNoChangesForEqualInstances() {
+		assertThat(differ.diff(order("4711"), order("4711"))).isEmpty();
+	}
+
+	@Test
+	void reportsChangedSimpleProperties() {
+
+		var changes = differ.diff(order("4711"), order("4712"));
+
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).getPath().toDotPath()).isEqualTo("number");
+		assertThat(changes.get(0).getOldValue()).isEqualTo("4711");
+		assertThat(changes.get(0).getNewValue()).isEqualTo("4712");
+		assertThat(changes.get(0).getKey()).isNull();
+	}
+
+	@Test
+	void reportsChangesWithinNestedEntitiesByNestedPath() {
+
+		var before = order("4711");
+		before.address = new Address("Dresden");
+
+		var after = order("4711");
+		after.address = new Address("Berlin");
+
+		assertThat(differ.diff(before, after)).extracting(it -> it.getPath().toDotPath(), PropertyChange::getNewValue)
+				.containsExactly(tuple("address.city", "Berlin"));
+	}
+
+	@Test
+	void matchesCollectionElementsById() {
+
+		var before = order("4711");
+		before.items = Arrays.asList(new LineItem(1L, 1), new LineItem(2L, 1), new LineItem(3L, 1));
+
+		var after = order("4711");
+		after.items = Arrays.asList(new LineItem(3L, 1), new LineItem(2L, 5), new LineItem(4L, 1));
+
+		var changes = differ.diff(before, after);
+
+		assertThat(changes).extracting(it -> it.getPath().toDotPath(), PropertyChange::getKey)
+				.containsExactly(tuple("items", 1L), tuple("items", 2L), tuple("items", 4L));
+
+		assertThat(changes.get(0).getNewValue()).isNull();
+		assertThat(changes.get(1).getOldValue()).isSameAs(before.items.get(1));
+		assertThat(changes.get(1).getNewValue()).isSameAs(after.items.get(1));
+		assertThat(changes.get(2).getOldValue()).isNull();
+	}
+
+	@Test
+	void matchesMapEntriesByKey() {
+
+		var before = order("4711");
+		before.addresses.put("home", new Address("Dresden"));
+		before.addresses.put("work", new Address("Berlin"));
+
+		var after = order("4711");
+		after.addresses.put("home", new Address("Dresden"));
+		after.addresses.put("work", new Address("Leipzig"));
+
+		assertThat(differ.diff(before, after)).extracting(it -> it.getPath().toDotPath(), PropertyChange::getKey)
+				.containsExactly(tuple("addresses", "work"));
+	}
+
+	@Test
+	void comparesNestedEntitiesAlongPropertiesOfTheirActualType() {
+
+		var before = order("4711");
+		before.address = new ZipAddress("Dresden", "01067");
+		before.addresses.put("work", new ZipAddress("Berlin", "10115"));
+
+		var after = order("4711");
+		after.address = new ZipAddress("Dresden", "01069");
+		after.addresses.put("work", new ZipAddress("Berlin", "10117"));
+
+		assertThat(differ.diff(before, after)).extracting(it -> it.getPath().toDotPath(), PropertyChange::getKey)
+				.containsExactly(tuple("address.zip", null), tuple("addresses", "work"));
+	}
+
+	@Test
+	void reportsNestedEntitiesOfDifferentTypesAsAWhole() {
+
+		var before = order("4711");
+		before.address = new Address("Dresden");
+
+		var after = order("4711");
+		after.address = new ZipAddress("Dresden", "01067");
+
+		assertThat(differ.diff(before, after)).extracting(it -> it.getPath().toDotPath()).containsExactly("address");
+	}
+
+	@Test
+	void comparesByEqualityBeyondMaximumDepth() {
+
+		var before = order("4711");
+		before.address = new Address("Dresden");
+
+		var after = order("4711");
+		after.address = new Address("Berlin");
+
+		var changes = new EntityDiffer<>(context, 0).diff(before, after);
+
+		assertThat(changes).extracting(it -> it.getPath().toDotPath()).containsExactly("address");
+	}
+
+	@Test
+	void skipsIdenticalSubtrees() {
+
+		var address = new Address("Dresden");
+
+		var before = order("4711");
+		before.address = address;
+
+		var after = order("4711");
+		after.address = address;
+
+		assertThat(differ.diff(before, after)).isEmpty();
+	}
+
+	private static Order order(String number) {
+
+		var order = new Order();
+		order.number = number;
+
+		return order;
+	}
+
+	static class Order {
+
+		@Id Long id;
+		String number;
+		Address address;
+		List<LineItem> items = new ArrayList<>();
+		Map<String, Address> addresses = new HashMap<>();
+	}
+
+	static class Address {
+
+		String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Address that && Objects.equals(city, that.city);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(city);
+		}
+	}
+
+	static class ZipAddress extends Address {
+
+		String zip;
+
+		ZipAddress(String city, String zip) {
+
+			super(city);
+			this.zip = zip;
+		}
+	}
+
+	static class LineItem {
+
+		@Id Long id;
+		int quantity;
+
+		LineItem() {}
+
+		LineItem(Long id, int quantity) {
+
+			this.id = id;
+			this.quantity = quantity;
+		}
+	}
+}
@@ -162,6 +162,39 @@ class EntityProjectionIntrospectorUnitTests {
 		assertThat(paths).hasSize(3).extracting(PropertyPath::toDotPath).containsOnly("domains", "id", "value");
 	}
 
+	@Test
+	void cachesIntrospectionResults() {
+
+		EntityProjection<?, ?> first = discoverer.introspect(DomainClassProjection.class, DomainClass.class);
+		EntityProjection<?, ?> second = discoverer.introspect(DomainClassProjection.class, DomainClass.class);
+
+		assertThat(second).isSameAs(first);
+		assertThat(discoverer.introspect(DomainClassDto.class, DomainClass.class)).isNotSameAs(first);
+	}
+
+	@Test
+	void precomputedIntrospectionResultsAreReused() {
+
+		discoverer.precompute(WithNestedProjection.class, WithComplexObject.class);
+
+		EntityProjection<?, ?> first = discoverer.introspect(WithNestedProjection.class, WithComplexObject.class);
+
+		assertThat(discoverer.introspect(WithNestedProjection.class, WithComplexObject.class)).isSameAs(first);
+	}
+
+	@Test
+	void disabledCacheIntrospectsOnEachCall() {
+
+		EntityProjectionIntrospector uncached = EntityProjectionIntrospector.create(projectionFactory,
+				predicate.and(EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy()), mappingContext, 0);
+
+		EntityProjection<?, ?> first = uncached.introspect(DomainClassProjection.class, DomainClass.class);
+		EntityProjection<?, ?> second = uncached.introspect(DomainClassProjection.class, DomainClass.class);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.isClosedProjection()).isEqualTo(first.isClosedProjection());
+	}
+
 	interface SuperInterface {
 
 	}
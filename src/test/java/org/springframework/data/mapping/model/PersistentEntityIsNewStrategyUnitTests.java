@@ -20,11 +20,16 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.AllArgsConstructor;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.AccessType;
+import org.springframework.data.annotation.AccessType.Type;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+import org.springframework.data.util.ClassTypeInformation;
 
 /**
  * Unit tests for {@link PersistentEntityIsNewStrategy}.
@@ -125,6 +130,55 @@ class PersistentEntityIsNewStrategyUnitTests {
 		assertThat(entity.isNew(new NoIdEntity())).isTrue();
 	}
 
+	@Test
+	void detectsNewEntityForPrimitiveVersionAndId() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(PrimitiveVersionEntity.class);
+
+		var bean = new PrimitiveVersionEntity();
+		assertThat(entity.isNew(bean)).isTrue();
+
+		bean.version = 1;
+		assertThat(entity.isNew(bean)).isFalse();
+
+		PersistentEntityIsNewStrategy idOnly = PersistentEntityIsNewStrategy.forIdOnly(entity);
+
+		bean.id = 0.5;
+		assertThat(idOnly.isNew(bean)).isTrue();
+
+		bean.id = 1.5;
+		assertThat(idOnly.isNew(bean)).isFalse();
+	}
+
+	@Test
+	void usesPropertyAccessForPropertiesUsingPropertyAccess() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(PropertyAccessEntity.class);
+
+		var bean = new PropertyAccessEntity();
+		bean.id = 1L;
+
+		assertThat(entity.isNew(bean)).isTrue();
+	}
+
+	@Test
+	void usesIdentifierAccessorOfEntityOverridingIt() {
+
+		BasicPersistentEntity<PrimitiveWrapperIdEntity, SamplePersistentProperty> entity = new BasicPersistentEntity<>(
+				ClassTypeInformation.from(PrimitiveWrapperIdEntity.class)) {
+
+			@Override
+			public IdentifierAccessor getIdentifierAccessor(Object bean) {
+				return () -> 1L;
+			}
+		};
+
+		entity.addPersistentProperty(context.getRequiredPersistentEntity(PrimitiveWrapperIdEntity.class)
+				.getRequiredIdProperty());
+
+		assertThat(PersistentEntityIsNewStrategy.of(entity).isNew(new PrimitiveWrapperIdEntity())).isFalse();
+	}
+
 	static class PrimitiveIdEntity {
 
 		@Id long id;
@@ -162,5 +216,24 @@ class PersistentEntityIsNewStrategyUnitTests {
 		}
 	}
 
+	static class PrimitiveVersionEntity {
+
+		@Version int version;
+		@Id double id;
+	}
+
+	static class PropertyAccessEntity {
+
+		@Id @AccessType(Type.PROPERTY) Long id;
+
+		public Long getId() {
+			return null;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
 	private static class NoIdEntity {}
 }
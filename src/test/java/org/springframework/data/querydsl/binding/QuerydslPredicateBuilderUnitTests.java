@@ -234,4 +234,37 @@ class QuerydslPredicateBuilderUnitTests {
 
 		assertThat(QuerydslPredicateBuilder.isEmpty(builder.getPredicate(USER_TYPE, values, DEFAULT_BINDINGS))).isTrue();
 	}
+
+	@Test
+	void reusesBindingPlanAcrossInvocations() {
+
+		var bindings = new QuerydslBindings();
+
+		values.add("firstname", "Dave");
+		values.add("unknown", "value");
+
+		var first = builder.getPredicate(USER_TYPE, values, bindings);
+		var second = builder.getPredicate(USER_TYPE, values, bindings);
+
+		assertThat(first).isEqualTo(QUser.user.firstname.eq("Dave"));
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	void recompilesBindingPlanIfBindingsAreModified() {
+
+		var bindings = new QuerydslBindings();
+
+		values.add("firstname", "Dave");
+
+		assertThat(builder.getPredicate(USER_TYPE, values, bindings)).isEqualTo(QUser.user.firstname.eq("Dave"));
+
+		bindings.bind(QUser.user.firstname).first(CONTAINS_BINDING);
+
+		assertThat(builder.getPredicate(USER_TYPE, values, bindings)).hasToString("contains(user.firstname,Dave)");
+
+		bindings.excluding(QUser.user.firstname);
+
+		assertThat(QuerydslPredicateBuilder.isEmpty(builder.getPredicate(USER_TYPE, values, bindings))).isTrue();
+	}
 }
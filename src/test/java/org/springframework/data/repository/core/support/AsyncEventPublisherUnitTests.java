@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for {@link AsyncEventPublisher}.
+ */
+class AsyncEventPublisherUnitTests {
+
+	@Test
+	void rejectsInvalidCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AsyncEventPublisher(event -> {}, Runnable::run, 0));
+	}
+
+	@Test
+	void publishesEventsInOrderOnExecutor() throws Exception {
+
+		var executor = Executors.newSingleThreadExecutor();
+		var latch = new CountDownLatch(100);
+		List<Object> events = new CopyOnWriteArrayList<>();
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		ApplicationEventPublisher delegate = event -> {
+
+			events.add(event);
+			threads.add(Thread.currentThread());
+			latch.countDown();
+		};
+
+		var publisher = new AsyncEventPublisher(delegate, executor, 10);
+
+		for (var i = 0; i < 100; i++) {
+			publisher.publishEvent(i);
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(events).hasSize(100).isSortedAccordingTo((left, right) -> (int) left - (int) right);
+		assertThat(threads).doesNotContain(Thread.currentThread());
+		assertThat(publisher.getPendingEvents()).isZero();
+	}
+
+	@Test
+	void doesNotPropagateListenerFailures() {
+
+		List<Object> events = new CopyOnWriteArrayList<>();
+
+		var publisher = new AsyncEventPublisher(event -> {
+
+			if ("fail".equals(event)) {
+				throw new IllegalStateException("Boom!");
+			}
+
+			events.add(event);
+		}, Runnable::run, 10);
+
+		publisher.publishEvent("fail");
+		publisher.publishEvent("next");
+
+		assertThat(events).containsExactly("next");
+	}
+
+	@Test
+	void publishesEventsOfListenersWithoutBlockingOnFullQueue() throws Exception {
+
+		var executor = Executors.newSingleThreadExecutor();
+		var latch = new CountDownLatch(4);
+		List<Object> events = new CopyOnWriteArrayList<>();
+		AtomicReference<AsyncEventPublisher> publisher = new AtomicReference<>();
+
+		publisher.set(new AsyncEventPublisher(event -> {
+
+			events.add(event);
+			latch.countDown();
+
+			if ("trigger".equals(event)) {
+				publisher.get().publishEvent("first");
+				publisher.get().publishEvent("second");
+				publisher.get().publishEvent("third");
+			}
+		}, executor, 1));
+
+		publisher.get().publishEvent("trigger");
+
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(events).containsExactlyInAnyOrder("trigger", "first", "second", "third");
+	}
+
+	@Test
+	void publishesOnCallingThreadIfExecutorRejects() {
+
+		List<Object> events = new CopyOnWriteArrayList<>();
+
+		var publisher = new AsyncEventPublisher(events::add, command -> {
+			throw new RejectedExecutionException();
+		}, 10);
+
+		publisher.publishEvent("event");
+
+		assertThat(events).containsExactly("event");
+	}
+}
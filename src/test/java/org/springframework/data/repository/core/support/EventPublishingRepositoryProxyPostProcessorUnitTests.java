@@ -33,6 +33,7 @@ import org.aopalliance.aop.Advice;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +42,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEventBatch;
 import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -333,6 +335,51 @@ class EventPublishingRepositoryProxyPostProcessorUnitTests {
 		verify(publisher, never()).publishEvent(any());
 	}
 
+	@Test
+	void publishesEventsOfAllAggregatesAsOneBatch() throws Throwable {
+
+		var first = new SomeEvent();
+		var second = new SomeEvent();
+		var third = new SomeEvent();
+		var aggregates = Arrays.asList(MultipleEvents.of(Arrays.asList(first, second)),
+				MultipleEvents.of(Collections.singletonList(third)));
+
+		mockInvocation(invocation, SampleRepository.class.getMethod("saveAll", Iterable.class), aggregates);
+
+		EventPublishingMethodInterceptor.batching(EventPublishingMethod.of(MultipleEvents.class), publisher)
+				.invoke(invocation);
+
+		var captor = ArgumentCaptor.forClass(Object.class);
+		verify(publisher, times(1)).publishEvent(captor.capture());
+
+		assertThat(captor.getValue()).isInstanceOfSatisfying(DomainEventBatch.class,
+				it -> assertThat(it.getEvents()).containsExactly(first, second, third));
+	}
+
+	@Test
+	void clearsEventsOfAllAggregatesAfterBatchPublication() {
+
+		var firstEntity = spy(EventsWithClearing.of(Collections.emptyList()));
+		var secondEntity = spy(EventsWithClearing.of(Collections.singletonList(new SomeEvent())));
+
+		EventPublishingMethod.of(EventsWithClearing.class).publishEventBatchFrom(Arrays.asList(firstEntity, secondEntity),
+				publisher);
+
+		var inOrder = inOrder(publisher, firstEntity, secondEntity);
+		inOrder.verify(publisher).publishEvent(any(DomainEventBatch.class));
+		inOrder.verify(firstEntity).clearDomainEvents();
+		inOrder.verify(secondEntity).clearDomainEvents();
+	}
+
+	@Test
+	void doesNotPublishEmptyBatch() {
+
+		EventPublishingMethod.of(MultipleEvents.class)
+				.publishEventBatchFrom(Arrays.asList(MultipleEvents.of(Collections.emptyList())), publisher);
+
+		verify(publisher, never()).publishEvent(any());
+	}
+
 	private static void mockInvocation(MethodInvocation invocation, Method method, Object parameterAndReturnValue)
 			throws Throwable {
 
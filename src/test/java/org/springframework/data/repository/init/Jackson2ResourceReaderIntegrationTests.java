@@ -17,7 +17,9 @@ package org.springframework.data.repository.init;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -39,4 +41,15 @@ class Jackson2ResourceReaderIntegrationTests {
 		assertThat(result).isInstanceOf(Collection.class);
 		assertThat((Collection<?>) result).hasSize(1);
 	}
+
+	@Test
+	void streamsObjectsFromArray() throws Exception {
+
+		var reader = new Jackson2ResourceReader();
+		List<Object> result = new ArrayList<>();
+
+		reader.readFrom(new ClassPathResource("data.json", getClass()), null, result::add);
+
+		assertThat(result).hasSize(1).first().isInstanceOf(Person.class);
+	}
 }
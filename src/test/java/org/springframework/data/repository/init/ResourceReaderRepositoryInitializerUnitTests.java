@@ -15,11 +15,15 @@
  */
 package org.springframework.data.repository.init;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,6 +92,72 @@ class ResourceReaderRepositoryInitializerUnitTests {
 		verify(publisher, times(1)).publishEvent(event);
 	}
 
+	@Test
+	void persistsObjectsReadByStreamingReader() throws Exception {
+
+		var products = List.of(new Product(), new Product(), new Product());
+		var streamingReader = mock(StreamingResourceReader.class);
+
+		doAnswer(invocation -> {
+			Consumer<Object> action = invocation.getArgument(2);
+			products.forEach(action);
+			return null;
+		}).when(streamingReader).readFrom(eq(resource), any(), any());
+		when(productRepository.save(any())).then(AdditionalAnswers.returnsFirstArg());
+
+		var populator = new ResourceReaderRepositoryPopulator(streamingReader);
+		populator.setResources(resource);
+		populator.setBatchSize(2);
+		populator.populate(repositories);
+
+		products.forEach(it -> verify(productRepository).save(it));
+		verify(streamingReader, never()).readFrom(any(), any());
+		assertThat(populator.getPersistedCount()).isEqualTo(3);
+	}
+
+	@Test
+	void populatesFromResourcesInParallel() throws Exception {
+
+		var first = new Product();
+		var second = new Product();
+		var otherResource = mock(Resource.class);
+
+		when(reader.readFrom(eq(resource), any())).thenReturn(List.of(first));
+		when(reader.readFrom(eq(otherResource), any())).thenReturn(List.of(second));
+		when(productRepository.save(any())).then(AdditionalAnswers.returnsFirstArg());
+
+		var executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			var populator = new ResourceReaderRepositoryPopulator(reader);
+			populator.setResources(resource, otherResource);
+			populator.setTaskExecutor(executor);
+			populator.populate(repositories);
+
+			assertThat(populator.getPersistedCount()).isEqualTo(2);
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(productRepository).save(first);
+		verify(productRepository).save(second);
+	}
+
+	@Test
+	void propagatesFailureFromParallelPopulation() throws Exception {
+
+		when(reader.readFrom(any(), any())).thenThrow(new IllegalArgumentException("Invalid resource"));
+
+		var populator = new ResourceReaderRepositoryPopulator(reader);
+		populator.setResources(resource);
+		populator.setTaskExecutor(Runnable::run);
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> populator.populate(repositories))
+				.withRootCauseInstanceOf(IllegalArgumentException.class);
+	}
+
 	private RepositoryPopulator setUpReferenceAndInititalize(Object reference, ApplicationEventPublisher publish)
 			throws Exception {
 
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.data.domain.DomainEventBatch;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for {@link OutboxEventPublisher}.
+ */
+class OutboxEventPublisherUnitTests {
+
+	InMemoryOutboxStore store = new InMemoryOutboxStore();
+	OutboxEventPublisher publisher = new OutboxEventPublisher(store);
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clear();
+		}
+	}
+
+	@Test
+	void appendsEventsImmediatelyWithoutTransaction() {
+
+		publisher.publishEvent("first");
+		publisher.publishEvent("second");
+
+		assertThat(events(store.fetch(10))).containsExactly("first", "second");
+	}
+
+	@Test
+	void appendsIndividualEventsOfBatch() {
+
+		publisher.publishEvent(new DomainEventBatch(Arrays.asList("first", "second")));
+
+		assertThat(events(store.fetch(10))).containsExactly("first", "second");
+	}
+
+	@Test
+	void appendsEventsBeforeTransactionCommits() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		publisher.publishEvent("first");
+		publisher.publishEvent("second");
+
+		assertThat(store.size()).isZero();
+
+		TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+		assertThat(events(store.fetch(10))).containsExactly("first", "second");
+
+		TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+	}
+
+	@Test
+	void discardsEventsOfRolledBackTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		publisher.publishEvent("event");
+
+		TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(store.size()).isZero();
+		assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+	}
+
+	@Test
+	void collectsEventsOfSuspendingTransactionSeparately() {
+
+		StubTransactionManager transactionManager = new StubTransactionManager();
+		TransactionTemplate outer = new TransactionTemplate(transactionManager);
+		TransactionTemplate inner = new TransactionTemplate(transactionManager);
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		outer.executeWithoutResult(status -> {
+
+			publisher.publishEvent("outer");
+
+			inner.executeWithoutResult(it -> publisher.publishEvent("inner"));
+
+			assertThat(events(store.fetch(10))).containsExactly("inner");
+
+			status.setRollbackOnly();
+		});
+
+		assertThat(events(store.fetch(10))).containsExactly("inner");
+		assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+	}
+
+	@Test
+	void rejectsNonSerializableEvents() {
+		assertThatIllegalArgumentException().isThrownBy(() -> publisher.publishEvent(new Object()));
+	}
+
+	/**
+	 * {@link AbstractPlatformTransactionManager} without an actual resource, supporting transaction suspension.
+	 */
+	@SuppressWarnings("serial")
+	static class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+		private int active;
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected boolean isExistingTransaction(Object transaction) {
+			return active > 0;
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+			active++;
+		}
+
+		@Override
+		protected Object doSuspend(Object transaction) {
+			return transaction;
+		}
+
+		@Override
+		protected void doResume(Object transaction, Object suspendedResources) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doCleanupAfterCompletion(Object transaction) {
+			active--;
+		}
+	}
+
+	private static List<Object> events(List<OutboxRecord> records) {
+
+		DefaultDeserializer deserializer = new DefaultDeserializer();
+
+		return records.stream().map(it -> {
+			try {
+				return deserializer.deserializeFromByteArray(it.getPayload());
+			} catch (Exception o_O) {
+				throw new IllegalStateException(o_O);
+			}
+		}).toList();
+	}
+}
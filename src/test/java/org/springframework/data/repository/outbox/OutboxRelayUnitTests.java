@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+
+/**
+ * Unit tests for {@link OutboxRelay}.
+ */
+class OutboxRelayUnitTests {
+
+	InMemoryOutboxStore store = new InMemoryOutboxStore();
+	OutboxEventPublisher outbox = new OutboxEventPublisher(store);
+	List<Object> events = new ArrayList<>();
+
+	@Test
+	void relaysEventsInBatches() {
+
+		for (int i = 0; i < 5; i++) {
+			outbox.publishEvent(i);
+		}
+
+		OutboxRelay relay = new OutboxRelay(store, events::add, new DefaultDeserializer(), 2);
+
+		assertThat(relay.relay()).isEqualTo(2);
+		assertThat(events).containsExactly(0, 1);
+		assertThat(store.size()).isEqualTo(3);
+
+		relay.run();
+
+		assertThat(events).containsExactly(0, 1, 2, 3, 4);
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	void redeliversEventsFromFailingListenerOnNextRun() {
+
+		outbox.publishEvent("first");
+		outbox.publishEvent("fail");
+		outbox.publishEvent("third");
+
+		List<Object> failures = new ArrayList<>(Collections.singletonList("fail"));
+
+		OutboxRelay relay = new OutboxRelay(store, event -> {
+
+			if (failures.remove(event)) {
+				throw new IllegalStateException("Boom!");
+			}
+
+			events.add(event);
+		});
+
+		assertThat(relay.relay()).isEqualTo(1);
+		assertThat(events).containsExactly("first");
+		assertThat(store.size()).isEqualTo(2);
+
+		relay.run();
+
+		assertThat(events).containsExactly("first", "fail", "third");
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	void skipsRecordsThatCannotBeDeserialized() {
+
+		store.append(Collections.singletonList(new byte[] { 1, 2, 3 }));
+		outbox.publishEvent("event");
+
+		new OutboxRelay(store, events::add).run();
+
+		assertThat(events).containsExactly("event");
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	void acknowledgesRecordsUpToSequence() {
+
+		store.append(Arrays.asList(new byte[0], new byte[0], new byte[0]));
+
+		List<OutboxRecord> records = store.fetch(2);
+		store.acknowledge(records.get(1).getSequence());
+
+		assertThat(store.fetch(10)).hasSize(1);
+	}
+}
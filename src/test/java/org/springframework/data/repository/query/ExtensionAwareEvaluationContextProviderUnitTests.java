@@ -40,6 +40,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.data.spel.ExtensionAwareEvaluationContextProvider;
 import org.springframework.data.spel.spi.EvaluationContextExtension;
 import org.springframework.data.spel.spi.ExtensionIdAware;
@@ -312,6 +313,44 @@ class ExtensionAwareEvaluationContextProviderUnitTests {
 		verify(beanFactory).getBeansOfType(eq(ExtensionIdAware.class), anyBoolean(), anyBoolean());
 	}
 
+	@Test
+	void evaluationContextsCreatedFromSameDependenciesAreIndependent() throws Exception {
+
+		this.provider = new ExtensionAwareQueryMethodEvaluationContextProvider(
+				Collections.singletonList(new DummyExtension("_first", "first")));
+
+		var expression = new SpelExpressionParser().parseExpression("#firstname + key");
+		var dependencies = ExpressionDependencies.discover(expression);
+		var parameters = new DefaultParameters(method);
+
+		var first = provider.getEvaluationContext(parameters, new Object[] { "one" }, dependencies);
+		var second = provider.getEvaluationContext(parameters, new Object[] { "two" }, dependencies);
+
+		first.setVariable("firstname", "changed");
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(expression.getValue(first)).isEqualTo("changedfirst");
+		assertThat(expression.getValue(second)).isEqualTo("twofirst");
+	}
+
+	@Test
+	void reobtainsExtensionPropertiesForEachEvaluationContext() {
+
+		var counter = new AtomicInteger();
+
+		this.provider = new ExtensionAwareQueryMethodEvaluationContextProvider(
+				Collections.singletonList(new DummyExtension("_first", "first") {
+
+					@Override
+					public Map<String, Object> getProperties() {
+						return Collections.singletonMap("key", counter.incrementAndGet());
+					}
+				}));
+
+		assertThat(evaluateExpression("key")).isEqualTo(1);
+		assertThat(evaluateExpression("key")).isEqualTo(2);
+	}
+
 	private static ExtensionAwareQueryMethodEvaluationContextProvider createContextProviderWithOverloads() {
 
 		return new ExtensionAwareQueryMethodEvaluationContextProvider(Collections.singletonList( //
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.spel.ExpressionDependencies;
+
+/**
+ * Unit tests for {@link SpelEvaluator}.
+ */
+class SpelEvaluatorUnitTests {
+
+	static final String QUERY = "select u from User u where u.firstname = :#{#firstname} and u.lastname = ?#{#lastname.toUpperCase()} and u.age > :#{#age}";
+
+	SpelQueryContext context = SpelQueryContext.of((index, spel) -> "__$synthetic$__" + index,
+			(prefix, name) -> prefix + name);
+
+	@Test
+	void evaluatesAllExpressions() throws Exception {
+
+		var evaluator = context.withEvaluationContextProvider(QueryMethodEvaluationContextProvider.DEFAULT)
+				.parse(QUERY, getParameters());
+
+		var result = evaluator.evaluate(new Object[] { "Dave", "Matthews", 42 });
+
+		assertThat(result).containsEntry("__$synthetic$__0", "Dave") //
+				.containsEntry("__$synthetic$__1", "MATTHEWS") //
+				.containsEntry("__$synthetic$__2", 42);
+		assertThat(evaluator.getQueryString()).isEqualTo(
+				"select u from User u where u.firstname = :__$synthetic$__0 and u.lastname = ?__$synthetic$__1 and u.age > :__$synthetic$__2");
+	}
+
+	@Test
+	void obtainsSingleEvaluationContextPerEvaluation() throws Exception {
+
+		var provider = spy(QueryMethodEvaluationContextProvider.DEFAULT);
+		var evaluator = context.withEvaluationContextProvider(provider).parse(QUERY, getParameters());
+
+		evaluator.evaluate(new Object[] { "Dave", "Matthews", 42 });
+		evaluator.evaluate(new Object[] { "Carter", "Beauford", 60 });
+
+		verify(provider, times(2)).getEvaluationContext(any(), any(), any(ExpressionDependencies.class));
+	}
+
+	@Test
+	void retainsNullValues() throws Exception {
+
+		var evaluator = context.withEvaluationContextProvider(QueryMethodEvaluationContextProvider.DEFAULT)
+				.parse(QUERY, getParameters());
+
+		var result = evaluator.evaluate(new Object[] { null, "Matthews", 42 });
+
+		assertThat(result).containsEntry("__$synthetic$__0", null);
+	}
+
+	private static DefaultParameters getParameters() throws Exception {
+		return new DefaultParameters(
+				SampleRepository.class.getMethod("findByFirstnameAndLastname", String.class, String.class, int.class));
+	}
+
+	interface SampleRepository {
+
+		List<Object> findByFirstnameAndLastname(@Param("firstname") String firstname, @Param("lastname") String lastname,
+				@Param("age") int age);
+	}
+}
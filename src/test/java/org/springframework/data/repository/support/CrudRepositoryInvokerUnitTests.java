@@ -80,6 +80,24 @@ class CrudRepositoryInvokerUnitTests {
 		getInvokerFor(personRepository, expectInvocationOf(method)).invokeSave(new Person());
 	}
 
+	@Test
+	void invokesSaveAllOnCrudRepository() throws Exception {
+
+		var method = CrudRepository.class.getMethod("saveAll", Iterable.class);
+		getInvokerFor(personRepository, expectInvocationOf(method)).invokeSaveAll(List.of(new Person(), new Person()));
+	}
+
+	@Test
+	void invokesRedeclaredSaveForEachElementOnSaveAll() {
+
+		when(orderRepository.save(any())).then(AdditionalAnswers.returnsFirstArg());
+
+		getInvokerFor(orderRepository, expectInvocationOnType(OrderRepository.class))
+				.invokeSaveAll(List.of(new Order(), new Order()));
+
+		verify(orderRepository, times(2)).save(any());
+	}
+
 	@Test // DATACMNS-589
 	void invokesFindOneOnCrudRepository() throws Exception {
 
@@ -19,7 +19,16 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.Test;
@@ -114,4 +123,138 @@ class PageableExecutionUtilsUnitTests {
 
 		verify(totalSupplierMock).getAsLong();
 	}
+
+	@Test
+	void cancelsAsyncTotalIfTotalIsDerivable() {
+
+		var total = new CompletableFuture<Long>();
+
+		var page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), PageRequest.of(0, 10), total);
+
+		assertThat(page.getTotalElements()).isEqualTo(3L);
+		assertThat(total).isCancelled();
+	}
+
+	@Test
+	void awaitsAsyncTotalIfRequired() {
+
+		var page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), PageRequest.of(1, 3),
+				CompletableFuture.completedFuture(7L));
+
+		assertThat(page.getTotalElements()).isEqualTo(7L);
+	}
+
+	@Test
+	void propagatesAsyncTotalFailure() {
+
+		var total = CompletableFuture.<Long> failedFuture(new IllegalStateException("count failed"));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), PageRequest.of(1, 3), total))
+				.withMessage("count failed");
+	}
+
+	@Test
+	void runsTotalQueryInParallelToContentQuery() throws Exception {
+
+		var executor = Executors.newSingleThreadExecutor();
+		var countStarted = new CountDownLatch(1);
+
+		try {
+
+			var page = PageableExecutionUtils.getPage(() -> {
+
+				try {
+					// content retrieval completes only once the count query is running
+					assertThat(countStarted.await(5, TimeUnit.SECONDS)).isTrue();
+				} catch (InterruptedException o_O) {
+					throw new IllegalStateException(o_O);
+				}
+
+				return Arrays.asList(1, 2, 3);
+			}, PageRequest.of(1, 3), () -> {
+				countStarted.countDown();
+				return 7L;
+			}, executor);
+
+			assertThat(page.getTotalElements()).isEqualTo(7L);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void doesNotRunTotalQueryForUnpagedRequests() {
+
+		Executor executor = mock(Executor.class);
+
+		var page = PageableExecutionUtils.getPage(() -> Arrays.asList(1, 2, 3), Pageable.unpaged(), totalSupplierMock,
+				executor);
+
+		assertThat(page.getTotalElements()).isEqualTo(3L);
+		verifyNoInteractions(executor, totalSupplierMock);
+	}
+
+	@Test
+	void cancelsTotalQueryIfContentQueryFails() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		assertThatIllegalStateException().isThrownBy(() -> PageableExecutionUtils.getPage(() -> {
+			throw new IllegalStateException();
+		}, PageRequest.of(0, 3), totalSupplierMock, tasks::add));
+
+		assertThat(tasks).singleElement().isInstanceOfSatisfying(Future.class, it -> assertThat(it).isCancelled());
+	}
+
+	@Test
+	void estimatesTotalIfRequired() {
+
+		var page = PageableExecutionUtils.getPageWithEstimatedTotal(Arrays.asList(1, 2, 3), PageRequest.of(1, 3),
+				() -> 1000L);
+
+		assertThat(page.getTotalElements()).isEqualTo(1000L);
+		assertThat(page.hasApproximateTotal()).isTrue();
+	}
+
+	@Test
+	void doesNotEstimateDerivableTotal() {
+
+		var page = PageableExecutionUtils.getPageWithEstimatedTotal(Arrays.asList(1, 2, 3), PageRequest.of(1, 10),
+				totalSupplierMock);
+
+		assertThat(page.getTotalElements()).isEqualTo(13L);
+		assertThat(page.hasApproximateTotal()).isFalse();
+		verifyNoInteractions(totalSupplierMock);
+	}
+
+	@Test
+	void raisesEstimateLowerThanSeenElements() {
+
+		var page = PageableExecutionUtils.getPageWithEstimatedTotal(Arrays.asList(1, 2, 3), PageRequest.of(2, 3),
+				() -> 5L);
+
+		assertThat(page.getTotalElements()).isEqualTo(10L);
+		assertThat(page.hasApproximateTotal()).isTrue();
+	}
+
+	@Test
+	void keepsNextPageForFullPageWithLowEstimate() {
+
+		var page = PageableExecutionUtils.getPageWithEstimatedTotal(Arrays.asList(1, 2, 3), PageRequest.of(2, 3),
+				() -> 9L);
+
+		assertThat(page.getTotalElements()).isEqualTo(10L);
+		assertThat(page.hasNext()).isTrue();
+	}
+
+	@Test
+	void raisesEstimateOfEmptyPageToOffset() {
+
+		var page = PageableExecutionUtils.getPageWithEstimatedTotal(Collections.emptyList(), PageRequest.of(2, 3),
+				() -> 0L);
+
+		assertThat(page.getTotalElements()).isEqualTo(6L);
+		assertThat(page.hasNext()).isFalse();
+	}
 }
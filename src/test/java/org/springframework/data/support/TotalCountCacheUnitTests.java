@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for {@link TotalCountCache}.
+ */
+class TotalCountCacheUnitTests {
+
+	MutableClock clock = new MutableClock();
+	AtomicLong invocations = new AtomicLong();
+	TotalCountCache cache = new TotalCountCache(Duration.ofSeconds(10), 2, clock);
+
+	@Test
+	void cachesTotalPerKey() {
+
+		assertThat(cache.getTotal("foo", this::count)).isEqualTo(42);
+		assertThat(cache.getTotal("foo", this::count)).isEqualTo(42);
+		assertThat(invocations).hasValue(1);
+
+		assertThat(cache.getTotal("bar", this::count)).isEqualTo(42);
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void expiresTotalAfterTimeToLive() {
+
+		cache.getTotal("foo", this::count);
+		clock.advance(Duration.ofSeconds(10));
+		cache.getTotal("foo", this::count);
+
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void evictsTotalsOnceCacheLimitIsReached() {
+
+		cache.getTotal("foo", this::count);
+		cache.getTotal("bar", this::count);
+		cache.getTotal("baz", this::count);
+
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsTotalForKey() {
+
+		cache.getTotal("foo", this::count);
+		cache.evict("foo");
+		cache.getTotal("foo", this::count);
+
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void cachedSupplierIsOnlyInvokedIfTotalIsRequired() {
+
+		var supplier = cache.cached("foo", this::count);
+
+		PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), PageRequest.of(0, 10), supplier);
+		assertThat(invocations).hasValue(0);
+
+		var first = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), PageRequest.of(0, 3), supplier);
+		var second = PageableExecutionUtils.getPage(Arrays.asList(4, 5, 6), PageRequest.of(1, 3), supplier);
+
+		assertThat(first.getTotalElements()).isEqualTo(42);
+		assertThat(second.getTotalElements()).isEqualTo(42);
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	void rejectsNonPositiveTimeToLive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new TotalCountCache(Duration.ZERO));
+	}
+
+	private long count() {
+
+		invocations.incrementAndGet();
+		return 42;
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
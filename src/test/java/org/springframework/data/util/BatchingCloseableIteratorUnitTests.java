@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.util.StreamUtilsTests.TestIterator;
+
+/**
+ * Unit tests for {@link BatchingCloseableIterator}.
+ */
+class BatchingCloseableIteratorUnitTests {
+
+	@Test
+	void adaptsPlainCloseableIterator() {
+
+		var delegate = new TestIterator<>(Arrays.asList(1, 2, 3, 4, 5).iterator());
+		var iterator = BatchingCloseableIterator.of(delegate);
+
+		List<Integer> batch = new ArrayList<>();
+
+		assertThat(iterator.nextBatch(3, batch::add)).isEqualTo(3);
+		assertThat(batch).containsExactly(1, 2, 3);
+		assertThat(iterator.nextBatch(3, batch::add)).isEqualTo(2);
+		assertThat(iterator.nextBatch(3, batch::add)).isZero();
+
+		iterator.close();
+
+		assertThat(delegate.closed).isTrue();
+		assertThat(BatchingCloseableIterator.of(iterator)).isSameAs(iterator);
+	}
+
+	@Test
+	void handsOutFullBatchesAcrossNativeBatchBoundaries() {
+
+		var iterator = new NativeBatchIterator(IntStream.range(0, 10).boxed().toList(), 3);
+		List<List<Integer>> batches = new ArrayList<>();
+
+		iterator.forEachBatch(4, it -> batches.add(new ArrayList<>(it)));
+
+		assertThat(batches).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+		assertThat(iterator.elementReads).isZero();
+	}
+
+	@Test
+	void streamsElementsThroughNativeBatches() {
+
+		var iterator = new NativeBatchIterator(IntStream.range(0, 5000).boxed().toList(), 100);
+
+		try (Stream<Integer> stream = StreamUtils.createStreamFromIterator(iterator)) {
+			assertThat(stream.parallel().mapToInt(Integer::intValue).sum()).isEqualTo(IntStream.range(0, 5000).sum());
+		}
+
+		assertThat(iterator.elementReads).isZero();
+		assertThat(iterator.closed).isTrue();
+	}
+
+	@Test
+	void createsBatchStream() {
+
+		var iterator = new NativeBatchIterator(IntStream.range(0, 7).boxed().toList(), 2);
+
+		try (var stream = StreamUtils.createBatchStream(iterator, 3)) {
+			assertThat(stream).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6));
+		}
+
+		assertThat(iterator.closed).isTrue();
+	}
+
+	@Test
+	void batchesStreamAndClosesSource() {
+
+		var closed = new boolean[1];
+		var source = Stream.of(1, 2, 3).onClose(() -> closed[0] = true);
+
+		try (var stream = StreamUtils.batch(source, 2)) {
+			assertThat(stream).containsExactly(List.of(1, 2), List.of(3));
+		}
+
+		assertThat(closed[0]).isTrue();
+	}
+
+	@Test
+	void rejectsInvalidBatchSize() {
+
+		var iterator = new NativeBatchIterator(List.of(1), 1);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> iterator.forEachBatch(0, it -> {}));
+		assertThatIllegalArgumentException().isThrownBy(() -> StreamUtils.createBatchStream(iterator, 0));
+	}
+
+	/**
+	 * Iterator handing out elements in native batches of a fixed size, tracking element-wise access.
+	 */
+	static class NativeBatchIterator implements BatchingCloseableIterator<Integer> {
+
+		private final Iterator<Integer> delegate;
+		private final int nativeBatchSize;
+		int elementReads;
+		boolean closed;
+
+		NativeBatchIterator(List<Integer> elements, int nativeBatchSize) {
+			this.delegate = elements.iterator();
+			this.nativeBatchSize = nativeBatchSize;
+		}
+
+		@Override
+		public int nextBatch(int max, Consumer<? super Integer> action) {
+
+			int count = 0;
+
+			while (count < Math.min(max, nativeBatchSize) && delegate.hasNext()) {
+				action.accept(delegate.next());
+				count++;
+			}
+
+			return count;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public Integer next() {
+
+			elementReads++;
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
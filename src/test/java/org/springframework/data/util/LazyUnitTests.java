@@ -18,11 +18,20 @@ package org.springframework.data.util;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -116,4 +125,80 @@ class LazyUnitTests {
 		assertThat(empty.or(reference).get()).isEqualTo(reference);
 		assertThat(empty.or(() -> reference).get()).isEqualTo(reference);
 	}
+
+	@ParameterizedTest
+	@EnumSource(Lazy.ConcurrencyMode.class)
+	void resolvesValueOnceInSequentialAccess(Lazy.ConcurrencyMode mode) {
+
+		var invocations = new AtomicInteger();
+		var lazy = Lazy.of(() -> {
+			invocations.incrementAndGet();
+			return null;
+		}, mode);
+
+		assertThat(lazy.isResolved()).isFalse();
+		assertThat(lazy.getNullable()).isNull();
+		assertThat(lazy.getNullable()).isNull();
+		assertThat(lazy.isResolved()).isTrue();
+		assertThat(invocations).hasValue(1);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = Lazy.ConcurrencyMode.class, names = { "DOUBLE_CHECKED", "SYNCHRONIZED" })
+	void resolvesValueExactlyOnceUnderContention(Lazy.ConcurrencyMode mode) throws Exception {
+
+		var threads = 8;
+		var invocations = new AtomicInteger();
+		var start = new CountDownLatch(1);
+		var lazy = Lazy.of(() -> {
+			invocations.incrementAndGet();
+			return new Object();
+		}, mode);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			List<Future<Object>> results = new ArrayList<>();
+
+			for (var i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return lazy.get();
+				}));
+			}
+
+			start.countDown();
+
+			var first = results.get(0).get();
+
+			for (var result : results) {
+				assertThat(result.get()).isSameAs(first);
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	void considersResolutionForEquality() {
+
+		Supplier<String> supplier = () -> "value";
+
+		var left = Lazy.of(supplier);
+		var right = Lazy.of(supplier);
+
+		assertThat(left).isEqualTo(right).hasSameHashCodeAs(right);
+
+		left.get();
+
+		assertThat(left).isNotEqualTo(right);
+
+		right.get();
+
+		assertThat(left).isEqualTo(right).hasSameHashCodeAs(right);
+	}
 }
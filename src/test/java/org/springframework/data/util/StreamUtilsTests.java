@@ -18,10 +18,18 @@ package org.springframework.data.util;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.util.StreamUtils.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -32,6 +40,13 @@ import org.junit.jupiter.api.Test;
  */
 public class StreamUtilsTests {
 
+	ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
 	@Test // DATACMNS-650
 	public void shouldConvertAnIteratorToAStream() {
 
@@ -50,4 +65,129 @@ public class StreamUtilsTests {
 
 		assertThat(StreamUtils.zip(indices, lines, (index, line) -> index + ":" + line).count()).isEqualTo(2);
 	}
+
+	@Test
+	void prefetchingStreamReturnsAllElementsInOrder() {
+
+		var iterator = new TestIterator<>(IntStream.range(0, 1000).boxed().iterator());
+
+		try (var stream = createPrefetchingStream(iterator, 64, 2, executor)) {
+			assertThat(stream.toList()).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+		}
+
+		assertThat(iterator.closed).isTrue();
+	}
+
+	@Test
+	void parallelPrefetchingStreamPreservesEncounterOrder() {
+
+		var iterator = new TestIterator<>(IntStream.range(0, 10_000).boxed().iterator());
+
+		try (var stream = createPrefetchingStream(iterator, 100, 4, executor)) {
+			assertThat(stream.parallel().map(it -> it * 2).toList())
+					.containsExactlyElementsOf(IntStream.range(0, 10_000).map(it -> it * 2).boxed().toList());
+		}
+	}
+
+	@Test
+	void prefetchingStreamSplitsIntoChunks() {
+
+		var iterator = new TestIterator<>(IntStream.range(0, 10).boxed().iterator());
+
+		try (var stream = createPrefetchingStream(iterator, 4, 1, executor)) {
+
+			var spliterator = stream.spliterator();
+			var prefix = spliterator.trySplit();
+
+			assertThat(prefix).isNotNull();
+			assertThat(prefix.estimateSize()).isEqualTo(4);
+
+			List<Integer> remainder = new ArrayList<>();
+			spliterator.forEachRemaining(remainder::add);
+
+			assertThat(remainder).containsExactly(4, 5, 6, 7, 8, 9);
+		}
+	}
+
+	@Test
+	void closingPartiallyConsumedPrefetchingStreamClosesIterator() {
+
+		var iterator = new TestIterator<>(IntStream.range(0, 10_000).boxed().iterator());
+
+		try (var stream = createPrefetchingStream(iterator, 10, 1, executor)) {
+			assertThat(stream.limit(5).toList()).containsExactly(0, 1, 2, 3, 4);
+		}
+
+		assertThat(iterator.closed).isTrue();
+	}
+
+	@Test
+	void prefetchingStreamReadsOnConsumingThreadWithSynchronousExecutor() {
+
+		var iterator = new TestIterator<>(IntStream.range(0, 1000).boxed().iterator());
+
+		try (var stream = createPrefetchingStream(iterator, 10, 1, Runnable::run)) {
+			assertThat(stream.toList()).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+		}
+
+		assertThat(iterator.closed).isTrue();
+	}
+
+	@Test
+	void closesIteratorIfPrefetchingHasNotStarted() {
+
+		List<Runnable> tasks = new ArrayList<>();
+		var iterator = new TestIterator<>(Arrays.asList(1, 2, 3).iterator());
+
+		createPrefetchingStream(iterator, 10, 1, tasks::add).close();
+		tasks.forEach(Runnable::run);
+
+		assertThat(iterator.closed).isTrue();
+		assertThat(iterator.hasNext()).isTrue();
+	}
+
+	@Test
+	void propagatesIteratorFailureToConsumer() {
+
+		Iterator<Integer> failing = IntStream.range(0, 5).mapToObj(it -> {
+
+			if (it == 3) {
+				throw new IllegalStateException("Boom!");
+			}
+
+			return it;
+		}).iterator();
+
+		try (var stream = createPrefetchingStream(new TestIterator<>(failing), 2, 1, executor)) {
+			assertThatIllegalStateException().isThrownBy(stream::toList).withMessage("Boom!");
+		}
+	}
+
+	static class TestIterator<T> implements CloseableIterator<T> {
+
+		private final Iterator<T> delegate;
+		private final AtomicBoolean closedFlag = new AtomicBoolean();
+		volatile boolean closed;
+
+		TestIterator(Iterator<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+
+			assertThat(closedFlag.compareAndSet(false, true)).isTrue();
+			closed = true;
+		}
+	}
 }
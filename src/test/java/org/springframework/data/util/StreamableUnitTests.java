@@ -66,4 +66,11 @@ public class StreamableUnitTests {
 				.collect(Streamable.toStreamable(Collectors.toSet()))) //
 						.containsExactlyInAnyOrder(1, 2);
 	}
+
+	@Test
+	void createsBatches() {
+
+		assertThat(Streamable.of(1, 2, 3, 4, 5).batches(2)) //
+				.containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5));
+	}
 }
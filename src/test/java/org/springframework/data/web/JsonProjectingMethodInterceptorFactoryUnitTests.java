@@ -174,6 +174,21 @@ class JsonProjectingMethodInterceptorFactoryUnitTests {
 		assertThat(projection.users()).hasSize(2);
 	}
 
+	@Test
+	void cachedMethodMetadataDoesNotLeakValuesAcrossSources() {
+
+		var json = "{\"firstname\" : \"Carter\", \"address\" : { \"zipCode\" : \"22901\", \"city\" : \"Charlottesville\" } }";
+
+		var other = projectionFactory.createProjection(Customer.class,
+				new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(customer.getFirstname()).isEqualTo("Dave");
+		assertThat(other.getFirstname()).isEqualTo("Carter");
+		assertThat(customer.getNestedZipCode()).isEqualTo("01097");
+		assertThat(other.getNestedZipCode()).isEqualTo("22901");
+		assertThat(other.getAddresses()).isNull();
+	}
+
 	interface Customer {
 
 		String getFirstname();
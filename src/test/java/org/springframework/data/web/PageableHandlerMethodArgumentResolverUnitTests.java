@@ -122,6 +122,26 @@ class PageableHandlerMethodArgumentResolverUnitTests extends PageableDefaultUnit
 		assertSupportedAndResult(supportedMethodParameter, DEFAULT_PAGE_REQUEST, request);
 	}
 
+	@Test
+	void reusesDefaultPageRequestInstanceIfNoPagingParametersGiven() {
+
+		var resolver = new PageableHandlerMethodArgumentResolver();
+		var request = new ServletWebRequest(new MockHttpServletRequest());
+
+		assertThat(resolver.resolveArgument(supportedMethodParameter, null, request, null)).isSameAs(DEFAULT_PAGE_REQUEST);
+	}
+
+	@Test
+	void rejectsInvalidCustomDefaultForPageSizeOnEachInvocation() throws Exception {
+
+		var resolver = new PageableHandlerMethodArgumentResolver();
+		var parameter = new MethodParameter(Sample.class.getMethod("invalidDefaultPageSize", Pageable.class), 0);
+		var request = new ServletWebRequest(new MockHttpServletRequest());
+
+		assertThatIllegalStateException().isThrownBy(() -> resolver.resolveArgument(parameter, null, request, null));
+		assertThatIllegalStateException().isThrownBy(() -> resolver.resolveArgument(parameter, null, request, null));
+	}
+
 	@Test // DATACMNS-408
 	void pageParamIsNotNumeric() throws Exception {
 
@@ -20,6 +20,7 @@ import static org.springframework.data.domain.Sort.Direction.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -260,6 +261,30 @@ class SortHandlerMethodArgumentResolverUnitTests extends SortDefaultUnitTests {
 		assertSupportedAndResolvedTo(getRequestWithSort(reference, "merged"), parameter, reference);
 	}
 
+	@Test
+	void parsesMultiCharacterAndRegexDelimiters() {
+
+		var resolver = new SortHandlerMethodArgumentResolver();
+
+		assertThat(resolver.parseParameterIntoSort(List.of("firstname::lastname::desc"), "::"))
+				.isEqualTo(Sort.by(DESC, "firstname", "lastname"));
+		assertThat(resolver.parseParameterIntoSort(List.of("firstname|lastname|ignorecase"), "\\|"))
+				.isEqualTo(Sort.by(Order.by("firstname").ignoreCase(), Order.by("lastname").ignoreCase()));
+		assertThat(resolver.parseParameterIntoSort(List.of(" ,..,firstname,,ASC"), ","))
+				.isEqualTo(Sort.by(ASC, "firstname"));
+	}
+
+	@Test
+	void reusesAnnotatedDefaultSortForSameParameter() {
+
+		var resolver = new SortHandlerMethodArgumentResolver();
+		var parameter = getParameterOfMethod("simpleDefault");
+
+		var first = resolver.getDefaultFromAnnotationOrFallback(parameter);
+
+		assertThat(resolver.getDefaultFromAnnotationOrFallback(parameter)).isSameAs(first);
+	}
+
 	private static Sort resolveSort(HttpServletRequest request, MethodParameter parameter) throws Exception {
 
 		var resolver = new SortHandlerMethodArgumentResolver();
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link StreamingPagedResourcesAssembler}.
+ */
+class StreamingPagedResourcesAssemblerUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	PagedResourcesAssembler<Person> pagedAssembler = new PagedResourcesAssembler<>(null,
+			UriComponentsBuilder.fromUriString("https://localhost/people").build());
+	StreamingPagedResourcesAssembler<Person> assembler = new StreamingPagedResourcesAssembler<>(pagedAssembler);
+
+	@Test
+	void writesEmbeddedElementsLinksAndPageMetadata() throws Exception {
+
+		Page<Person> page = new PageImpl<>(Arrays.asList(new Person("Dave"), new Person("Carter")), PageRequest.of(1, 2),
+				10);
+
+		JsonNode node = write(page);
+
+		assertThat(node.at("/_embedded/people")).hasSize(2);
+		assertThat(node.at("/_embedded/people/0/name").asText()).isEqualTo("Dave");
+		assertThat(node.at("/_links/self/href").asText()).isEqualTo("https://localhost/people?page=1&size=2");
+		assertThat(node.at("/_links/first/href").asText()).isEqualTo("https://localhost/people?page=0&size=2");
+		assertThat(node.at("/_links/prev/href").asText()).isEqualTo("https://localhost/people?page=0&size=2");
+		assertThat(node.at("/_links/next/href").asText()).isEqualTo("https://localhost/people?page=2&size=2");
+		assertThat(node.at("/_links/last/href").asText()).isEqualTo("https://localhost/people?page=4&size=2");
+		assertThat(node.at("/page/size").asInt()).isEqualTo(2);
+		assertThat(node.at("/page/totalElements").asLong()).isEqualTo(10);
+		assertThat(node.at("/page/totalPages").asInt()).isEqualTo(5);
+		assertThat(node.at("/page/number").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void rendersSameLinksAsPagedResourcesAssembler() throws Exception {
+
+		Page<Person> page = new PageImpl<>(Collections.singletonList(new Person("Dave")), PageRequest.of(2, 1), 5);
+
+		JsonNode node = write(page);
+
+		pagedAssembler.toModel(page).getLinks().forEach(link -> {
+			assertThat(node.at("/_links/" + link.getRel().value() + "/href").asText()).isEqualTo(link.getHref());
+		});
+	}
+
+	@Test
+	void writesEmptyPage() throws Exception {
+
+		JsonNode node = write(new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0));
+
+		assertThat(node.at("/_embedded/people").isArray()).isTrue();
+		assertThat(node.at("/_embedded/people")).isEmpty();
+		assertThat(node.at("/_links/self/href").asText()).isEqualTo("https://localhost/people?page=0&size=20");
+	}
+
+	@Test
+	void closesContentStream() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		Page<Person> page = new PageImpl<>(Collections.singletonList(new Person("Dave")), PageRequest.of(0, 1), 1);
+		StringWriter writer = new StringWriter();
+
+		try (var generator = mapper.createGenerator(writer)) {
+			assembler.write(page, page.get().onClose(() -> closed.set(true)), Person::getName, LinkRelation.of("names"),
+					null, generator);
+		}
+
+		assertThat(closed).isTrue();
+		assertThat(mapper.readTree(writer.toString()).at("/_embedded/names/0").asText()).isEqualTo("Dave");
+	}
+
+	private JsonNode write(Page<Person> page) throws Exception {
+
+		StringWriter writer = new StringWriter();
+
+		try (var generator = mapper.createGenerator(writer)) {
+			assembler.write(page, LinkRelation.of("people"), generator);
+		}
+
+		return mapper.readTree(writer.toString());
+	}
+
+	static class Person {
+
+		private final String name;
+
+		Person(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
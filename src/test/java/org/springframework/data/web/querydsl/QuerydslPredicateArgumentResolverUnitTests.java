@@ -39,6 +39,7 @@ import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.hateoas.EntityModel;
@@ -264,6 +265,93 @@ class QuerydslPredicateArgumentResolverUnitTests {
 				.isInstanceOfSatisfying(Optional.class, it -> assertThat(it).isPresent());
 	}
 
+	@Test
+	void cachesPredicatesIfPredicateCacheConfigured() throws Exception {
+
+		var cache = new QuerydslPredicateCache(10);
+		resolver.setPredicateCache(cache);
+
+		var parameter = getMethodParameterFor("simpleFind", Predicate.class);
+
+		request.addParameter("firstname", "rand");
+		request.addParameter("lastname", "al'thor");
+
+		var first = resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+
+		var reordered = new MockHttpServletRequest();
+		reordered.addParameter("lastname", "al'thor");
+		reordered.addParameter("firstname", "rand");
+		reordered.addParameter("address.city", "");
+
+		var second = resolver.resolveArgument(parameter, null, new ServletWebRequest(reordered), null);
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void ignoresParametersNotBoundToPredicateForCaching() throws Exception {
+
+		var cache = new QuerydslPredicateCache(10);
+		resolver.setPredicateCache(cache);
+
+		var parameter = getMethodParameterFor("simpleFind", Predicate.class);
+
+		request.addParameter("firstname", "rand");
+		request.addParameter("page", "0");
+		request.addParameter("sort", "lastname");
+
+		var first = resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+
+		var nextPage = new MockHttpServletRequest();
+		nextPage.addParameter("firstname", "rand");
+		nextPage.addParameter("page", "1");
+		nextPage.addParameter("sort", "firstname,desc");
+		nextPage.addParameter("timestamp", "1650000000000");
+
+		var second = resolver.resolveArgument(parameter, null, new ServletWebRequest(nextPage), null);
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void cachedPredicatesAreEvictedOnceCacheLimitIsExceeded() throws Exception {
+
+		var cache = new QuerydslPredicateCache(1);
+		resolver.setPredicateCache(cache);
+
+		var parameter = getMethodParameterFor("simpleFind", Predicate.class);
+
+		request.addParameter("firstname", "rand");
+		resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+
+		var other = new MockHttpServletRequest();
+		other.addParameter("firstname", "egwene");
+
+		assertThat(resolver.resolveArgument(parameter, null, new ServletWebRequest(other), null))
+				.isEqualTo(QUser.user.firstname.eq("egwene"));
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotShareEmptyCachedPredicates() throws Exception {
+
+		resolver.setPredicateCache(new QuerydslPredicateCache());
+
+		var parameter = getMethodParameterFor("predicateWithoutAnnotation", Predicate.class);
+
+		var first = resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+		var second = resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(QuerydslPredicateBuilder.isEmpty((Predicate) second)).isTrue();
+	}
+
 	private static MethodParameter getMethodParameterFor(String methodName, Class<?>... args) throws RuntimeException {
 
 		try {